@@ -0,0 +1,165 @@
+package com.unlock.api.common.security.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AesEncryptionConverter 처리량/할당량 벤치마크 (50바이트, 1KB, 10KB 답변)
+ * 알고리즘 변경(ECB -> GCM)과 Cipher 재사용 효과가 섞이지 않도록 같은 알고리즘끼리 비교합니다.
+ * - Cipher 재사용 효과 (GCM): encrypt/decrypt(현재, 스레드별 Cipher) vs perCallGcmEncrypt/perCallGcmDecrypt(값마다 Cipher 생성)
+ * - Cipher 재사용 효과 (ECB 복호화): decryptLegacyFormat(현재 컨버터로 이전 형식 행 읽기) vs legacyDecrypt(변경 전 구현)
+ * - 알고리즘 변경 비용: perCallGcm* vs legacy* (둘 다 값마다 Cipher 생성)
+ * 실행: ./gradlew jmh (연산당 할당량은 gc 프로파일러의 gc.alloc.rate.norm 항목)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AesEncryptionConverterBenchmark {
+
+    private static final String KEY = "0123456789abcdef0123456789abcdef";
+
+    @Param({"50", "1024", "10240"})
+    private int payloadBytes;
+
+    private AesEncryptionConverter converter;
+    private LegacyConverter legacy;
+    private PerCallGcmConverter perCallGcm;
+    private String plain;
+    private String encrypted;
+    private String legacyEncrypted;
+
+    @Setup
+    public void setUp() {
+        converter = new AesEncryptionConverter(KEY, "1", "");
+        legacy = new LegacyConverter(KEY);
+        perCallGcm = new PerCallGcmConverter(KEY);
+        plain = "a".repeat(payloadBytes);
+        encrypted = converter.convertToDatabaseColumn(plain);
+        legacyEncrypted = legacy.encrypt(plain);
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return converter.convertToDatabaseColumn(plain);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return converter.convertToEntityAttribute(encrypted);
+    }
+
+    @Benchmark
+    public String decryptLegacyFormat() {
+        return converter.convertToEntityAttribute(legacyEncrypted);
+    }
+
+    @Benchmark
+    public String perCallGcmEncrypt() {
+        return perCallGcm.encrypt(plain);
+    }
+
+    @Benchmark
+    public String perCallGcmDecrypt() {
+        return perCallGcm.decrypt(encrypted);
+    }
+
+    @Benchmark
+    public String legacyEncrypt() {
+        return legacy.encrypt(plain);
+    }
+
+    @Benchmark
+    public String legacyDecrypt() {
+        return legacy.decrypt(legacyEncrypted);
+    }
+
+    /**
+     * 변경 전 컨버터 구현 (값마다 Cipher 생성 및 초기화)
+     */
+    static final class LegacyConverter {
+        private static final String ALGORITHM = "AES/ECB/PKCS5Padding";
+        private final SecretKeySpec keySpec;
+
+        LegacyConverter(String key) {
+            this.keySpec = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "AES");
+        }
+
+        String encrypt(String attribute) {
+            try {
+                Cipher cipher = Cipher.getInstance(ALGORITHM);
+                cipher.init(Cipher.ENCRYPT_MODE, keySpec);
+                return Base64.getEncoder().encodeToString(cipher.doFinal(attribute.getBytes(StandardCharsets.UTF_8)));
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        String decrypt(String dbData) {
+            try {
+                Cipher cipher = Cipher.getInstance(ALGORITHM);
+                cipher.init(Cipher.DECRYPT_MODE, keySpec);
+                return new String(cipher.doFinal(Base64.getDecoder().decode(dbData)), StandardCharsets.UTF_8);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    /**
+     * 현재와 같은 GCM 형식(v2:{키 ID}:IV+암호문)을 값마다 Cipher를 생성하여 처리하는 기준 구현
+     * IV 생성 비용은 현재 구현과 같도록 공유 SecureRandom을 사용합니다.
+     */
+    static final class PerCallGcmConverter {
+        private static final String ALGORITHM = "AES/GCM/NoPadding";
+        private static final String PREFIX = "v2:1:";
+        private static final int IV_BYTES = 12;
+        private static final int TAG_BITS = 128;
+        private final SecretKeySpec keySpec;
+        private final SecureRandom random = new SecureRandom();
+
+        PerCallGcmConverter(String key) {
+            this.keySpec = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "AES");
+        }
+
+        String encrypt(String attribute) {
+            try {
+                byte[] iv = new byte[IV_BYTES];
+                random.nextBytes(iv);
+                Cipher cipher = Cipher.getInstance(ALGORITHM);
+                cipher.init(Cipher.ENCRYPT_MODE, keySpec, new GCMParameterSpec(TAG_BITS, iv));
+                byte[] encrypted = cipher.doFinal(attribute.getBytes(StandardCharsets.UTF_8));
+                byte[] out = new byte[IV_BYTES + encrypted.length];
+                System.arraycopy(iv, 0, out, 0, IV_BYTES);
+                System.arraycopy(encrypted, 0, out, IV_BYTES, encrypted.length);
+                return PREFIX + Base64.getEncoder().encodeToString(out);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        String decrypt(String dbData) {
+            try {
+                byte[] encrypted = Base64.getDecoder().decode(dbData.substring(PREFIX.length()));
+                Cipher cipher = Cipher.getInstance(ALGORITHM);
+                cipher.init(Cipher.DECRYPT_MODE, keySpec, new GCMParameterSpec(TAG_BITS, encrypted, 0, IV_BYTES));
+                return new String(cipher.doFinal(encrypted, IV_BYTES, encrypted.length - IV_BYTES), StandardCharsets.UTF_8);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.unlock.api.common.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 크기 제한과 항목별 만료 시각을 가진 로컬 LRU 캐시
+ * 최대 크기를 넘으면 가장 오래 사용되지 않은 항목 하나만 내보내므로, 한도에 닿아도 캐시 전체가 비워지지 않습니다.
+ * - 접근 순서 LinkedHashMap을 단일 락으로 보호합니다. (조회도 순서를 갱신하므로 락이 필요하며, 임계 구역은 해시 조회 한 번)
+ * - 만료된 항목은 조회 시점에 제거하고, 조회되지 않는 만료 항목은 LRU 순서에 따라 밀려납니다.
+ */
+public class LocalLruCache<K, V> {
+
+    private final int maxSize;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    public LocalLruCache(int maxSize) {
+        if (maxSize <= 0) throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > LocalLruCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return 없거나 만료되었으면 null
+     */
+    public V get(K key) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) return null;
+            if (entry.expiresAt() <= now) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value();
+        }
+    }
+
+    /**
+     * 지정한 시각(epoch ms)까지 유효한 항목 저장
+     */
+    public void put(K key, V value, long expiresAt) {
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, expiresAt));
+        }
+    }
+
+    public void remove(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
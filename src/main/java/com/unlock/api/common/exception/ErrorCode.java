@@ -16,6 +16,7 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C001", "서버 내부 에러가 발생했습니다."),
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "C002", "잘못된 입력 값입니다."),
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "C003", "지원하지 않는 HTTP 메소드입니다."),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "C004", "동일한 요청을 처리 중입니다. 잠시 후 다시 시도해주세요."),
     
     // Auth (A)
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "A001", "인증되지 않은 사용자입니다."),
@@ -24,6 +25,7 @@ public enum ErrorCode {
     AUTH_CODE_NOT_FOUND(HttpStatus.BAD_REQUEST, "A004", "인증번호가 존재하지 않거나 만료되었습니다."),
     AUTH_CODE_MISMATCH(HttpStatus.BAD_REQUEST, "A005", "인증번호가 일치하지 않습니다."),
     LOGIN_FAILED(HttpStatus.BAD_REQUEST, "A006", "이메일 또는 비밀번호가 일치하지 않습니다."),
+    REFRESH_TOKEN_ROTATED(HttpStatus.CONFLICT, "A007", "이미 재발급된 토큰입니다. 최신 토큰으로 다시 시도해주세요."),
     
     // User (U)
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "U001", "사용자를 찾을 수 없습니다."),
@@ -0,0 +1,95 @@
+package com.unlock.api.common.idempotency;
+
+import com.unlock.api.common.exception.BusinessException;
+import com.unlock.api.common.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key 헤더 기반 중복 요청 차단기
+ * 같은 키로 재시도된 요청은 DB를 거치지 않고 처음 요청의 결과(성공)를 그대로 돌려줍니다.
+ * - 키는 유저/작업 단위로 Redis(IDEMPOTENCY:{userId}:{scope}:{key})에 보관합니다.
+ * - 처리 중에는 PENDING, 성공 후에는 DONE으로 기록하며, 실패하면 키를 지워 같은 키로 다시 시도할 수 있게 합니다.
+ * - 처리 중인 키로 다시 요청하면 충돌(409)로 응답합니다.
+ * - 헤더가 없거나 Redis 장애 시에는 그대로 실행합니다. (DB 유니크 제약이 최종 중복 방지선)
+ * 작업은 트랜잭션 밖(컨트롤러)에서 감싸야 커밋이 끝난 뒤 DONE으로 기록됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyGuard {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final String KEY_PREFIX = "IDEMPOTENCY:";
+    private static final String PENDING = "PENDING";
+    private static final String DONE = "DONE";
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${idempotency.ttl-hours}")
+    private long ttlHours;
+
+    @Value("${idempotency.pending-ttl-seconds}")
+    private long pendingTtlSeconds;
+
+    /**
+     * 키당 한 번만 작업을 실행합니다.
+     * @return 이번 요청에서 실제로 실행했으면 true, 이전 결과를 재사용했으면 false
+     */
+    public boolean runOnce(Long userId, String scope, String idempotencyKey, Runnable action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            action.run();
+            return true;
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BusinessException("Idempotency-Key는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.", ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        String key = KEY_PREFIX + userId + ":" + scope + ":" + idempotencyKey;
+        Boolean acquired;
+        try {
+            acquired = redisTemplate.opsForValue().setIfAbsent(key, PENDING, Duration.ofSeconds(pendingTtlSeconds));
+        } catch (DataAccessException e) {
+            log.warn("[IDEMPOTENCY] 키 확인 실패, 그대로 실행합니다. 사유: {}", e.getMessage());
+            action.run();
+            return true;
+        }
+
+        if (!Boolean.TRUE.equals(acquired)) {
+            String state = redisTemplate.opsForValue().get(key);
+            if (DONE.equals(state)) return false;
+            if (state != null) throw new BusinessException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+            // 확인 사이에 만료된 경우 다시 시도
+            return runOnce(userId, scope, idempotencyKey, action);
+        }
+
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            release(key);
+            throw e;
+        }
+        try {
+            redisTemplate.opsForValue().set(key, DONE, Duration.ofHours(ttlHours));
+        } catch (DataAccessException e) {
+            log.warn("[IDEMPOTENCY] 처리 결과 기록 실패: {}", e.getMessage());
+        }
+        return true;
+    }
+
+    private void release(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (DataAccessException e) {
+            log.warn("[IDEMPOTENCY] 키 해제 실패: {}", e.getMessage());
+        }
+    }
+}
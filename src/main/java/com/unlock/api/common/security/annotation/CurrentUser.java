@@ -1,17 +1,17 @@
 package com.unlock.api.common.security.annotation;
 
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * 현재 인증된 사용자의 ID(Long)를 가져오기 위한 커스텀 어노테이션
+ * 현재 인증된 사용자를 가져오기 위한 커스텀 어노테이션
+ * - Long: 사용자 ID (토큰에서 추출, 추가 조회 없음)
+ * - AuthContext: 사용자/커플 식별 정보 (요청당 한 번, Redis 캐시에서 조회)
+ * (CurrentUserArgumentResolver 참고)
  */
 @Target(ElementType.PARAMETER)
 @Retention(RetentionPolicy.RUNTIME)
-@AuthenticationPrincipal
 public @interface CurrentUser {
 }
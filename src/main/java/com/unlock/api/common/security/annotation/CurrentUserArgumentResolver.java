@@ -0,0 +1,65 @@
+package com.unlock.api.common.security.annotation;
+
+import com.unlock.api.common.exception.BusinessException;
+import com.unlock.api.common.exception.ErrorCode;
+import com.unlock.api.common.security.auth.AuthContext;
+import com.unlock.api.common.security.auth.AuthContextCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * @CurrentUser 파라미터 리졸버
+ * Long 타입이면 인증 주체(사용자 ID)를 그대로, AuthContext 타입이면 캐시에서 조회한 컨텍스트를 주입합니다.
+ * AuthContext는 요청 속성에 보관하여 한 요청 안에서는 한 번만 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private static final String CONTEXT_ATTRIBUTE = CurrentUserArgumentResolver.class.getName() + ".AUTH_CONTEXT";
+
+    private final AuthContextCache authContextCache;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        if (!parameter.hasParameterAnnotation(CurrentUser.class)) return false;
+        Class<?> type = parameter.getParameterType();
+        return Long.class.equals(type) || AuthContext.class.equals(type);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Long userId = currentUserId();
+        if (Long.class.equals(parameter.getParameterType())) {
+            return userId;
+        }
+        if (userId == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+
+        Object cached = webRequest.getAttribute(CONTEXT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cached instanceof AuthContext context) {
+            return context;
+        }
+        AuthContext context = authContextCache.get(userId);
+        webRequest.setAttribute(CONTEXT_ATTRIBUTE, context, RequestAttributes.SCOPE_REQUEST);
+        return context;
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+            return userId;
+        }
+        return null;
+    }
+}
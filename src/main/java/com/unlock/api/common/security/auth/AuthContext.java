@@ -0,0 +1,25 @@
+package com.unlock.api.common.security.auth;
+
+/**
+ * 요청 단위 인증 컨텍스트
+ * 대부분의 요청이 필요로 하는 유저/커플 식별 정보만 담아, 서비스가 User 엔티티와 연관관계를 로딩하지 않도록 합니다.
+ * 컨트롤러에서 @CurrentUser AuthContext 로 주입받습니다. (Redis 캐시, AuthContextCache 참고)
+ *
+ * @param coupleId   커플이 아니면 null
+ * @param partnerId  커플이 아니면 null
+ * @param subscribed 커플 프리미엄 구독 여부
+ * @param user1      커플의 user1인지 여부 (커플 관점으로 저장된 캐시의 순서 판별용)
+ */
+public record AuthContext(Long userId, Long coupleId, Long partnerId, boolean subscribed, String nickname, boolean user1) {
+
+    /**
+     * 조회 쿼리(JPQL 생성자 표현식)용 생성자
+     */
+    public AuthContext(Long userId, Long coupleId, Long partnerId, Boolean subscribed, String nickname, Long coupleUser1Id) {
+        this(userId, coupleId, partnerId, Boolean.TRUE.equals(subscribed), nickname, userId.equals(coupleUser1Id));
+    }
+
+    public boolean hasCouple() {
+        return coupleId != null;
+    }
+}
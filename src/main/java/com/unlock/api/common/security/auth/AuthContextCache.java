@@ -0,0 +1,151 @@
+package com.unlock.api.common.security.auth;
+
+import com.unlock.api.common.exception.BusinessException;
+import com.unlock.api.common.exception.ErrorCode;
+import com.unlock.api.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유저별 인증 컨텍스트 캐시
+ * Redis(AUTH_CTX:{userId})에 "커플ID|파트너ID|구독|user1|닉네임" 형식으로 보관하며, 미스 시 단일 조인 쿼리로 생성합니다.
+ * - 커플 연결/해제, 닉네임 변경, 회원 탈퇴 시 커밋 이후 무효화합니다.
+ * - 구독 여부는 변경 경로가 없어 TTL로만 갱신됩니다.
+ * 무효화 시 세대 번호(AUTH_CTX_GEN:{userId})를 올리고, 저장은 조회 시작 시점의 세대와 같을 때만 수행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthContextCache {
+
+    private static final String KEY_PREFIX = "AUTH_CTX:";
+    private static final String GEN_PREFIX = "AUTH_CTX_GEN:";
+    private static final String SEPARATOR = "|";
+    // 세대 번호가 일치할 때만 저장
+    private static final RedisScript<Long> WRITE_IF_SAME_GEN_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') == ARGV[1] then " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1 end return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final UserRepository userRepository;
+
+    @Value("${auth-context.ttl-minutes}")
+    private long ttlMinutes;
+
+    /**
+     * 인증 컨텍스트 조회 (Redis 미스 시 DB에서 생성)
+     */
+    public AuthContext get(Long userId) {
+        String generation = null;
+        try {
+            List<String> cached = redisTemplate.opsForValue().multiGet(List.of(KEY_PREFIX + userId, GEN_PREFIX + userId));
+            if (cached != null) {
+                if (cached.get(0) != null) {
+                    AuthContext context = decode(userId, cached.get(0));
+                    if (context != null) return context;
+                }
+                generation = cached.get(1) == null ? "0" : cached.get(1);
+            }
+        } catch (DataAccessException e) {
+            log.warn("[AUTH_CTX] 캐시 조회 실패, DB에서 조회합니다. 사유: {}", e.getMessage());
+        }
+
+        AuthContext context = userRepository.findAuthContext(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        if (generation != null) write(context, generation);
+        return context;
+    }
+
+    /**
+     * 유저들의 인증 컨텍스트 무효화 (트랜잭션 안이면 커밋 이후 수행)
+     */
+    public void evict(Long... userIds) {
+        List<Long> targets = List.of(userIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doEvict(targets);
+                }
+            });
+        } else {
+            doEvict(targets);
+        }
+    }
+
+    private void doEvict(List<Long> userIds) {
+        long ttlMillis = TimeUnit.MINUTES.toMillis(ttlMinutes);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long userId : userIds) {
+                    byte[] genKey = bytes(GEN_PREFIX + userId);
+                    connection.stringCommands().incr(genKey);
+                    connection.keyCommands().pExpire(genKey, ttlMillis);
+                    connection.keyCommands().del(bytes(KEY_PREFIX + userId));
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("[AUTH_CTX] 캐시 무효화 실패: {}", e.getMessage());
+        }
+    }
+
+    private void write(AuthContext context, String generation) {
+        try {
+            redisTemplate.execute(WRITE_IF_SAME_GEN_SCRIPT,
+                    List.of(KEY_PREFIX + context.userId(), GEN_PREFIX + context.userId()),
+                    generation,
+                    encode(context),
+                    String.valueOf(TimeUnit.MINUTES.toMillis(ttlMinutes)));
+        } catch (DataAccessException e) {
+            log.warn("[AUTH_CTX] 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 커플ID|파트너ID|구독(0/1)|user1(0/1)|닉네임 (커플이 없으면 ID는 빈 값, 닉네임은 구분자를 포함할 수 있어 마지막에 둠)
+     */
+    static String encode(AuthContext context) {
+        return (context.coupleId() == null ? "" : context.coupleId()) + SEPARATOR
+                + (context.partnerId() == null ? "" : context.partnerId()) + SEPARATOR
+                + (context.subscribed() ? "1" : "0") + SEPARATOR
+                + (context.user1() ? "1" : "0") + SEPARATOR
+                + context.nickname();
+    }
+
+    /**
+     * @return 형식이 맞지 않으면 null (DB에서 다시 조회)
+     */
+    static AuthContext decode(Long userId, String value) {
+        String[] parts = value.split("\\|", 5);
+        if (parts.length != 5) return null;
+        try {
+            return new AuthContext(userId,
+                    parts[0].isEmpty() ? null : Long.valueOf(parts[0]),
+                    parts[1].isEmpty() ? null : Long.valueOf(parts[1]),
+                    "1".equals(parts[2]),
+                    parts[4],
+                    "1".equals(parts[3]));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static byte[] bytes(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -23,7 +23,7 @@ import java.util.Collections;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final JwtTokenCache jwtTokenCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -38,9 +38,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = resolveToken(request);
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            Long userId = jwtTokenProvider.getUserId(token);
-            
+        // 토큰 한 번만 검증 (같은 토큰의 반복 요청은 만료 전까지 캐시된 검증 결과 사용)
+        Long userId = token != null ? jwtTokenCache.resolveUserId(token) : null;
+        if (userId != null) {
             // 유저 ID를 Principal로 하여 Authentication 객체 생성
             // SimpleGrantedAuthority를 통해 기본 권한 설정
             Authentication authentication = new UsernamePasswordAuthenticationToken(
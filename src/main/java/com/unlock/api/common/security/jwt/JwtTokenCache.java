@@ -0,0 +1,87 @@
+package com.unlock.api.common.security.jwt;
+
+import com.unlock.api.common.cache.LocalLruCache;
+import com.unlock.api.common.security.jwt.JwtTokenProvider.VerifiedToken;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Access Token 검증 결과 로컬 캐시
+ * 앱 세션은 같은 토큰으로 계속 요청하므로, 한 번 검증한 토큰은 만료 시각까지 서명 검증과 파싱 없이 유저 ID를 돌려줍니다.
+ * - 키는 토큰 원문이 아닌 SHA-256 해시로 보관합니다.
+ * - 각 항목은 토큰의 만료 시각에 만료되고, 최대 크기를 넘으면 가장 오래 사용되지 않은 토큰부터 내보냅니다.
+ *   (한도에 닿아도 전체를 비우지 않으므로 활성 세션 전체가 한꺼번에 재검증되지 않음)
+ * - 캐시 적중/미스(unlock.jwt.cache, result 태그)와 검증 소요 시간(unlock.jwt.verify)을 기록합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtTokenCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${jwt.cache.max-size}")
+    private int maxSize;
+
+    private LocalLruCache<String, VerifiedToken> cache;
+    private final ThreadLocal<MessageDigest> digests = ThreadLocal.withInitial(JwtTokenCache::sha256);
+
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Timer verifyTimer;
+
+    @PostConstruct
+    void initMetrics() {
+        cache = new LocalLruCache<>(maxSize);
+        hitCounter = Counter.builder("unlock.jwt.cache").tag("result", "hit").register(meterRegistry);
+        missCounter = Counter.builder("unlock.jwt.cache").tag("result", "miss").register(meterRegistry);
+        verifyTimer = Timer.builder("unlock.jwt.verify")
+                .description("캐시 미스 시 토큰 파싱 및 서명 검증 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("unlock.jwt.cache.size", cache, LocalLruCache::size).register(meterRegistry);
+    }
+
+    /**
+     * 토큰의 유저 ID 조회
+     * @return 유효하지 않거나 만료된 토큰이면 null
+     */
+    public Long resolveUserId(String token) {
+        String key = hash(token);
+        VerifiedToken cached = cache.get(key);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached.userId();
+        }
+
+        missCounter.increment();
+        VerifiedToken verified = verifyTimer.record(() -> jwtTokenProvider.verify(token));
+        if (verified == null) return null;
+
+        cache.put(key, verified, verified.expiresAt());
+        return verified.userId();
+    }
+
+    private String hash(String token) {
+        byte[] digest = digests.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getEncoder().encodeToString(digest);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
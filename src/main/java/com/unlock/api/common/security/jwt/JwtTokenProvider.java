@@ -2,6 +2,7 @@ package com.unlock.api.common.security.jwt;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -22,6 +23,15 @@ public class JwtTokenProvider {
 
     private SecretKey secretKey;
 
+    // Refresh Token 클레임: 기기(로그인)별 토큰 계열 ID
+    private static final String FAMILY_CLAIM = "fid";
+    // 토큰 종류 클레임: Access Token만 "access"를 가지며, API 인증은 이 값이 있는 토큰만 허용합니다.
+    private static final String TYPE_CLAIM = "token_type";
+    private static final String ACCESS_TYPE = "access";
+
+    // 스레드 안전하므로 한 번만 생성하여 재사용
+    private JwtParser parser;
+
     @Value("${jwt.access-token-validity}")
     private long accessTokenValidityInMilliseconds;
 
@@ -31,18 +41,25 @@ public class JwtTokenProvider {
     @PostConstruct
     protected void init() {
         secretKey = Keys.hmacShaKeyFor(salt.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser().verifyWith(secretKey).build();
     }
 
     public String createAccessToken(Long userId) {
-        return createToken(userId, accessTokenValidityInMilliseconds);
+        Claims claims = Jwts.claims().subject(userId.toString()).add(TYPE_CLAIM, ACCESS_TYPE).build();
+        return createToken(claims, accessTokenValidityInMilliseconds);
     }
 
-    public String createRefreshToken(Long userId) {
-        return createToken(userId, refreshTokenValidityInMilliseconds);
+    /**
+     * Refresh Token 생성
+     * @param familyId 로그인(기기)마다 새로 만들고 재발급 시에는 유지하는 계열 ID
+     * @param tokenId  발급마다 새로 만드는 토큰 ID (재사용 탐지용)
+     */
+    public String createRefreshToken(Long userId, String familyId, String tokenId) {
+        Claims claims = Jwts.claims().subject(userId.toString()).id(tokenId).add(FAMILY_CLAIM, familyId).build();
+        return createToken(claims, refreshTokenValidityInMilliseconds);
     }
 
-    private String createToken(Long userId, long validityInMilliseconds) {
-        Claims claims = Jwts.claims().subject(userId.toString()).build();
+    private String createToken(Claims claims, long validityInMilliseconds) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + validityInMilliseconds);
 
@@ -54,26 +71,73 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public Long getUserId(String token) {
-        return Long.parseLong(Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject());
+    /**
+     * Access Token을 한 번 파싱하여 서명/만료를 검증하고 유저 ID와 만료 시각을 반환합니다.
+     * Refresh Token은 서명이 유효해도 거절합니다. (폐기/재사용 탐지된 Refresh Token이 API 인증에 쓰이지 않도록)
+     * @return 유효하지 않거나 Access Token이 아니면 null
+     */
+    public VerifiedToken verify(String token) {
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            if (!isAccessToken(claims)) {
+                log.warn("Access Token이 아닌 토큰으로 API 인증 시도 (유저 ID: {})", claims.getSubject());
+                return null;
+            }
+            return new VerifiedToken(Long.parseLong(claims.getSubject()), claims.getExpiration().getTime());
+        } catch (JwtException | IllegalArgumentException e) {
+            log.error("Invalid JWT token: {}", e.getMessage());
+            return null;
+        }
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * Refresh Token 검증 (서명/만료 확인 후 계열 ID와 토큰 ID 추출)
+     * 계열 ID가 없는 토큰(이전 형식 Refresh Token)은 familyId/tokenId가 null입니다.
+     * @return 유효하지 않거나 Access Token이면 null
+     */
+    public RefreshTokenClaims verifyRefreshToken(String token) {
         try {
-            Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            if (ACCESS_TYPE.equals(claims.get(TYPE_CLAIM, String.class))) return null;
+            return new RefreshTokenClaims(Long.parseLong(claims.getSubject()),
+                    claims.get(FAMILY_CLAIM, String.class), claims.getId(), claims.getExpiration().getTime());
         } catch (JwtException | IllegalArgumentException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
-            return false;
+            return null;
         }
     }
 
+    /**
+     * 종류 클레임이 "access"인 토큰만 Access Token으로 인정합니다.
+     * 종류 클레임 도입 이전에 발급된 토큰은 계열 ID가 없고 유효 기간이 Access Token 이하인 경우만 인정합니다.
+     * (이전 형식 Refresh Token과 구분, 배포 후 Access Token 유효 기간이 지나면 해당 분기는 쓰이지 않음)
+     */
+    private boolean isAccessToken(Claims claims) {
+        String type = claims.get(TYPE_CLAIM, String.class);
+        if (type != null) return ACCESS_TYPE.equals(type);
+        if (claims.get(FAMILY_CLAIM) != null || claims.getIssuedAt() == null) return false;
+        // iat/exp는 초 단위로 저장되므로 1초 오차 허용
+        long lifetime = claims.getExpiration().getTime() - claims.getIssuedAt().getTime();
+        return lifetime <= accessTokenValidityInMilliseconds + 1000;
+    }
+
     public long getRefreshTokenValidityInMilliseconds() {
         return refreshTokenValidityInMilliseconds;
     }
+
+    /**
+     * 검증된 토큰 정보 (유저 ID, 만료 시각 epoch ms)
+     */
+    public record VerifiedToken(Long userId, long expiresAt) {
+    }
+
+    /**
+     * 검증된 Refresh Token 정보 (유저 ID, 계열 ID, 토큰 ID, 만료 시각 epoch ms)
+     */
+    public record RefreshTokenClaims(Long userId, String familyId, String tokenId, long expiresAt) {
+
+        public boolean hasFamily() {
+            return familyId != null && tokenId != null;
+        }
+    }
 }
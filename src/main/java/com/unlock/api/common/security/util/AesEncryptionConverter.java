@@ -6,48 +6,171 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * JPA 엔티티 암호화 컨버터
- * DB 저장 시 AES-256 알고리즘으로 암호화하고, 조회 시 복호화합니다.
+ * DB 저장 시 AES-256-GCM으로 암호화하고, 조회 시 복호화합니다.
+ * - 저장 형식: "v2:{키 ID}:{Base64(IV 12바이트 + 암호문 + 인증 태그 16바이트)}" (행마다 무작위 IV)
+ * - 접두어가 없는 값은 이전 형식(AES/ECB, encryption.key)으로 보고 복호화합니다. (AnswerReencryptionJob이 새 형식으로 변환)
+ * - 키 교체 시 이전 키는 encryption.previous-keys("ID=키,ID=키")에 남겨 두어야 기존 행을 읽을 수 있습니다.
+ *   이전 형식은 encryption.key로만 읽으므로, 키 교체는 재암호화가 끝난 뒤에 합니다.
+ * 값마다 Cipher.getInstance(프로바이더 조회)를 하지 않도록, 스레드별로 Cipher와 출력 버퍼를 만들어 재사용합니다.
  */
 @Converter
 @Component
 public class AesEncryptionConverter implements AttributeConverter<String, String> {
 
-    private static final String ALGORITHM = "AES/ECB/PKCS5Padding";
-    private final SecretKeySpec keySpec;
+    private static final String LEGACY_ALGORITHM = "AES/ECB/PKCS5Padding";
+    private static final String ALGORITHM = "AES/GCM/NoPadding";
+    private static final String VERSION_PREFIX = "v2:";
+    private static final int IV_BYTES = 12;
+    private static final int TAG_BITS = 128;
+    // 이보다 큰 출력 버퍼는 스레드에 붙잡아 두지 않습니다.
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
 
-    public AesEncryptionConverter(@Value("${encryption.key}") String key) {
+    private final SecretKeySpec legacyKeySpec;
+    private final String activeKeyId;
+    private final String activePrefix;
+    private final Map<String, SecretKeySpec> keys = new HashMap<>();
+    private final ThreadLocal<CipherContext> contexts;
+
+    public AesEncryptionConverter(@Value("${encryption.key}") String key,
+                                  @Value("${encryption.key-id}") String keyId,
+                                  @Value("${encryption.previous-keys}") String previousKeys) {
         // 공백 및 예기치 못한 줄바꿈 제거 후 정확히 32바이트 키 생성
         // String sanitizedKey = key.trim();
-        this.keySpec = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "AES");
+        this.legacyKeySpec = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "AES");
+        this.activeKeyId = validKeyId(keyId);
+        this.activePrefix = VERSION_PREFIX + activeKeyId + ":";
+        if (previousKeys != null && !previousKeys.isBlank()) {
+            for (String pair : previousKeys.split(",")) {
+                String[] idAndKey = pair.trim().split("=", 2);
+                if (idAndKey.length != 2) throw new IllegalStateException("encryption.previous-keys 형식 오류 (ID=키)");
+                keys.put(validKeyId(idAndKey[0]), new SecretKeySpec(idAndKey[1].getBytes(StandardCharsets.UTF_8), "AES"));
+            }
+        }
+        keys.put(activeKeyId, legacyKeySpec);
+        this.contexts = ThreadLocal.withInitial(() -> new CipherContext(legacyKeySpec));
     }
 
     @Override
     public String convertToDatabaseColumn(String attribute) {
         if (attribute == null || attribute.isBlank()) return attribute;
         try {
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            cipher.init(Cipher.ENCRYPT_MODE, keySpec);
-            return Base64.getEncoder().encodeToString(cipher.doFinal(attribute.getBytes(StandardCharsets.UTF_8)));
+            CipherContext context = contexts.get();
+            byte[] plain = attribute.getBytes(StandardCharsets.UTF_8);
+            byte[] iv = new byte[IV_BYTES];
+            context.random.nextBytes(iv);
+            context.gcm.init(Cipher.ENCRYPT_MODE, keys.get(activeKeyId), new GCMParameterSpec(TAG_BITS, iv));
+
+            byte[] out = context.buffer(IV_BYTES + context.gcm.getOutputSize(plain.length));
+            System.arraycopy(iv, 0, out, 0, IV_BYTES);
+            int length = IV_BYTES + context.gcm.doFinal(plain, 0, plain.length, out, IV_BYTES);
+            // 버퍼의 유효 구간만 바로 인코딩 (암호문 복사본을 만들지 않음)
+            ByteBuffer encoded = Base64.getEncoder().encode(ByteBuffer.wrap(out, 0, length));
+            return activePrefix + new String(encoded.array(), 0, encoded.remaining(), StandardCharsets.ISO_8859_1);
         } catch (Exception e) {
+            contexts.remove();
             throw new RuntimeException("데이터 암호화 실패", e);
         }
     }
 
     @Override
     public String convertToEntityAttribute(String dbData) {
+        if (dbData == null || dbData.isBlank()) return dbData;
+        DecryptCounter.increment(1);
+        return decrypt(dbData);
+    }
+
+    private String decrypt(String dbData) {
         if (dbData == null || dbData.isBlank()) return dbData;
         try {
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            cipher.init(Cipher.DECRYPT_MODE, keySpec);
-            return new String(cipher.doFinal(Base64.getDecoder().decode(dbData)), StandardCharsets.UTF_8);
+            return dbData.startsWith(VERSION_PREFIX) ? decryptGcm(dbData) : decryptLegacy(dbData);
         } catch (Exception e) {
+            // 실패한 Cipher의 상태를 신뢰하지 않고 다음 호출에서 새로 만듭니다.
+            contexts.remove();
             throw new RuntimeException("데이터 복호화 실패", e);
         }
     }
+
+    /**
+     * 현재 키의 새 형식이 아닌 값인지 확인 (재암호화 대상)
+     */
+    public boolean needsReencryption(String dbData) {
+        return dbData != null && !dbData.isBlank() && !dbData.startsWith(activePrefix);
+    }
+
+    /**
+     * 이전 형식 또는 이전 키로 암호화된 값을 현재 키의 새 형식으로 다시 암호화
+     */
+    public String reencrypt(String dbData) {
+        return convertToDatabaseColumn(decrypt(dbData));
+    }
+
+    private String decryptGcm(String dbData) throws Exception {
+        int keyEnd = dbData.indexOf(':', VERSION_PREFIX.length());
+        if (keyEnd < 0) throw new IllegalArgumentException("암호문 형식 오류");
+        SecretKeySpec keySpec = keys.get(dbData.substring(VERSION_PREFIX.length(), keyEnd));
+        if (keySpec == null) throw new IllegalStateException("알 수 없는 암호화 키 ID");
+
+        CipherContext context = contexts.get();
+        byte[] encrypted = Base64.getDecoder().decode(dbData.substring(keyEnd + 1));
+        context.gcm.init(Cipher.DECRYPT_MODE, keySpec, new GCMParameterSpec(TAG_BITS, encrypted, 0, IV_BYTES));
+        byte[] out = context.buffer(context.gcm.getOutputSize(encrypted.length - IV_BYTES));
+        int length = context.gcm.doFinal(encrypted, IV_BYTES, encrypted.length - IV_BYTES, out, 0);
+        return new String(out, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private String decryptLegacy(String dbData) throws Exception {
+        CipherContext context = contexts.get();
+        byte[] encrypted = Base64.getDecoder().decode(dbData);
+        byte[] out = context.buffer(context.legacyDecrypt.getOutputSize(encrypted.length));
+        int length = context.legacyDecrypt.doFinal(encrypted, 0, encrypted.length, out, 0);
+        return new String(out, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private static String validKeyId(String keyId) {
+        String trimmed = keyId == null ? "" : keyId.trim();
+        if (!trimmed.matches("[A-Za-z0-9_-]{1,16}")) {
+            throw new IllegalStateException("암호화 키 ID는 영문/숫자/-/_ 1~16자여야 합니다.");
+        }
+        return trimmed;
+    }
+
+    /**
+     * 스레드별 Cipher와 출력 버퍼
+     * ECB 복호화 Cipher는 doFinal 이후 초기화 직후 상태로 돌아가므로 그대로 재사용하고,
+     * GCM Cipher는 IV가 매번 달라 호출마다 init만 다시 합니다.
+     */
+    private static final class CipherContext {
+        private final Cipher legacyDecrypt;
+        private final Cipher gcm;
+        private final SecureRandom random = new SecureRandom();
+        private byte[] buffer = new byte[256];
+
+        CipherContext(SecretKeySpec legacyKeySpec) {
+            try {
+                this.legacyDecrypt = Cipher.getInstance(LEGACY_ALGORITHM);
+                this.legacyDecrypt.init(Cipher.DECRYPT_MODE, legacyKeySpec);
+                this.gcm = Cipher.getInstance(ALGORITHM);
+            } catch (Exception e) {
+                throw new IllegalStateException("암호화 Cipher 초기화 실패", e);
+            }
+        }
+
+        byte[] buffer(int size) {
+            if (size <= buffer.length) return buffer;
+            byte[] grown = new byte[size];
+            if (size <= MAX_RETAINED_BUFFER) buffer = grown;
+            return grown;
+        }
+    }
 }
@@ -0,0 +1,32 @@
+package com.unlock.api.common.security.util;
+
+/**
+ * 요청 단위 복호화 횟수 집계
+ * DecryptMetricsFilter가 요청 시작 시 start(), 종료 시 finish()를 호출하며,
+ * 그 사이 같은 스레드에서 일어난 복호화 횟수를 셉니다. (요청 밖의 복호화는 집계하지 않음)
+ */
+public final class DecryptCounter {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    private DecryptCounter() {
+    }
+
+    static void increment(int count) {
+        int[] current = COUNT.get();
+        if (current != null) current[0] += count;
+    }
+
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    /**
+     * @return 이번 요청에서의 복호화 횟수
+     */
+    public static int finish() {
+        int[] current = COUNT.get();
+        COUNT.remove();
+        return current == null ? 0 : current[0];
+    }
+}
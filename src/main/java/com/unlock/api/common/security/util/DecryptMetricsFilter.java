@@ -0,0 +1,42 @@
+package com.unlock.api.common.security.util;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청당 답변 복호화 횟수 측정 필터
+ * unlock.encryption.decrypts (태그: uri) 분포로 기록하므로 엔드포인트별 요청 수(count)와 평균 복호화 횟수를 볼 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DecryptMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        DecryptCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int decrypts = DecryptCounter.finish();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("unlock.encryption.decrypts")
+                    .description("요청당 답변 복호화 횟수")
+                    .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                    .register(meterRegistry)
+                    .record(decrypts);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.unlock.api.common.security.util;
+
+import java.util.Objects;
+
+/**
+ * 지연 복호화 암호문 값
+ * 엔티티/프로젝션 로딩 시에는 암호문만 보관하고, decrypt()를 처음 호출할 때 한 번만 복호화합니다.
+ * 잠긴 파트너 답변이나 존재/소유 확인처럼 내용을 읽지 않는 경로에서는 복호화 비용이 들지 않습니다.
+ * 새로 작성한 답변은 평문으로 만들고(of), 저장 시 EncryptedContentConverter가 암호화합니다.
+ */
+public final class EncryptedContent {
+
+    private final String ciphertext;
+    private final AesEncryptionConverter cipher;
+    private volatile String plaintext;
+
+    private EncryptedContent(String ciphertext, AesEncryptionConverter cipher, String plaintext) {
+        this.ciphertext = ciphertext;
+        this.cipher = cipher;
+        this.plaintext = plaintext;
+    }
+
+    /**
+     * 새로 저장할 평문으로 생성
+     */
+    public static EncryptedContent of(String plaintext) {
+        return new EncryptedContent(null, null, plaintext);
+    }
+
+    /**
+     * DB에서 읽은 암호문으로 생성 (복호화하지 않음)
+     */
+    static EncryptedContent ofCiphertext(String ciphertext, AesEncryptionConverter cipher) {
+        return new EncryptedContent(ciphertext, cipher, null);
+    }
+
+    /**
+     * 평문 조회 (처음 호출 시에만 복호화)
+     */
+    public String decrypt() {
+        String value = plaintext;
+        if (value == null && ciphertext != null) {
+            value = cipher.convertToEntityAttribute(ciphertext);
+            plaintext = value;
+        }
+        return value;
+    }
+
+    /**
+     * 내용이 비어 있는지 확인 (빈 값은 암호화하지 않고 저장하므로 복호화 없이 판별)
+     */
+    public boolean isEmpty() {
+        String value = ciphertext != null ? ciphertext : plaintext;
+        return value == null || value.isBlank();
+    }
+
+    String ciphertext() {
+        return ciphertext;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EncryptedContent other)) return false;
+        return ciphertext != null ? ciphertext.equals(other.ciphertext) : Objects.equals(plaintext, other.plaintext);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ciphertext, ciphertext == null ? plaintext : null);
+    }
+
+    @Override
+    public String toString() {
+        // 로그 등에 평문/암호문이 찍히지 않도록 마스킹
+        return "EncryptedContent[***]";
+    }
+}
@@ -0,0 +1,32 @@
+package com.unlock.api.common.security.util;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 지연 복호화 JPA 컨버터
+ * 조회 시에는 암호문을 EncryptedContent로 감싸기만 하고, 복호화는 평문이 실제로 필요할 때 수행합니다.
+ * 저장 시 DB에서 읽은 값은 암호문을 그대로, 새 평문은 AesEncryptionConverter로 암호화하여 저장합니다.
+ */
+@Converter
+@Component
+@RequiredArgsConstructor
+public class EncryptedContentConverter implements AttributeConverter<EncryptedContent, String> {
+
+    private final AesEncryptionConverter aesEncryptionConverter;
+
+    @Override
+    public String convertToDatabaseColumn(EncryptedContent attribute) {
+        if (attribute == null) return null;
+        if (attribute.ciphertext() != null) return attribute.ciphertext();
+        return aesEncryptionConverter.convertToDatabaseColumn(attribute.decrypt());
+    }
+
+    @Override
+    public EncryptedContent convertToEntityAttribute(String dbData) {
+        if (dbData == null) return null;
+        return EncryptedContent.ofCiphertext(dbData, aesEncryptionConverter);
+    }
+}
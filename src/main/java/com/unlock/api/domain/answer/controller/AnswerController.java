@@ -1,7 +1,9 @@
 package com.unlock.api.domain.answer.controller;
 
 import com.unlock.api.common.dto.ApiCommonResponse;
+import com.unlock.api.common.idempotency.IdempotencyGuard;
 import com.unlock.api.common.security.annotation.CurrentUser;
+import com.unlock.api.common.security.auth.AuthContext;
 import com.unlock.api.domain.answer.dto.AnswerDto.AnswerRequest;
 import com.unlock.api.domain.answer.dto.AnswerDto.TodayAnswerResponse;
 import com.unlock.api.domain.answer.service.AnswerService;
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -30,14 +33,17 @@ import org.springframework.web.bind.annotation.RestController;
 public class AnswerController {
 
     private final AnswerService answerService;
+    private final IdempotencyGuard idempotencyGuard;
 
-    @Operation(summary = "오늘의 답변 등록")
+    @Operation(summary = "오늘의 답변 등록", description = "Idempotency-Key 헤더를 보내면 같은 키로 재시도한 요청은 처음 결과를 그대로 반환합니다.")
     @ApiResponse(responseCode = "200", description = "등록 성공")
     @PostMapping
     public ApiCommonResponse<Void> submitAnswer(
-            @Parameter(hidden = true) @CurrentUser Long userId,
+            @Parameter(hidden = true) @CurrentUser AuthContext context,
+            @RequestHeader(value = IdempotencyGuard.HEADER, required = false) String idempotencyKey,
             @RequestBody @Valid AnswerRequest request) {
-        answerService.submitAnswer(userId, request);
+        idempotencyGuard.runOnce(context.userId(), "answer-submit", idempotencyKey,
+                () -> answerService.submitAnswer(context, request));
         return ApiCommonResponse.success("답변이 등록되었습니다.", null);
     }
 
@@ -45,17 +51,19 @@ public class AnswerController {
     @ApiResponse(responseCode = "200", description = "조회 성공",
             content = @Content(schema = @Schema(implementation = TodayAnswerResponse.class)))
     @GetMapping("/today")
-    public ApiCommonResponse<TodayAnswerResponse> getTodayAnswers(@Parameter(hidden = true) @CurrentUser Long userId) {
-        return ApiCommonResponse.success("오늘의 답변 조회 성공", answerService.getTodayAnswers(userId));
+    public ApiCommonResponse<TodayAnswerResponse> getTodayAnswers(@Parameter(hidden = true) @CurrentUser AuthContext context) {
+        return ApiCommonResponse.success("오늘의 답변 조회 성공", answerService.getTodayAnswers(context));
     }
 
-    @Operation(summary = "파트너 답변 잠금 해제 (Reveal)")
+    @Operation(summary = "파트너 답변 잠금 해제 (Reveal)", description = "이미 해제한 답변이면 그대로 성공합니다. Idempotency-Key 헤더를 보내면 같은 키의 재시도는 DB를 거치지 않습니다.")
     @ApiResponse(responseCode = "200", description = "공개 성공")
     @PostMapping("/{answerId}/reveal")
     public ApiCommonResponse<Void> revealPartnerAnswer(
-            @Parameter(hidden = true) @CurrentUser Long userId,
+            @Parameter(hidden = true) @CurrentUser AuthContext context,
+            @RequestHeader(value = IdempotencyGuard.HEADER, required = false) String idempotencyKey,
             @PathVariable Long answerId) {
-        answerService.revealPartnerAnswer(userId, answerId);
+        idempotencyGuard.runOnce(context.userId(), "answer-reveal:" + answerId, idempotencyKey,
+                () -> answerService.revealPartnerAnswer(context, answerId));
         return ApiCommonResponse.success("상대방의 답변이 공개되었습니다.", null);
     }
 }
@@ -2,8 +2,10 @@ package com.unlock.api.domain.answer.controller;
 
 import com.unlock.api.common.dto.ApiCommonResponse;
 import com.unlock.api.common.security.annotation.CurrentUser;
+import com.unlock.api.common.security.auth.AuthContext;
 import com.unlock.api.domain.answer.dto.ArchiveDto.ArchiveDetailResponse;
 import com.unlock.api.domain.answer.dto.ArchiveDto.ArchiveSummaryResponse;
+import com.unlock.api.domain.answer.dto.ArchiveDto.TimelineResponse;
 import com.unlock.api.domain.answer.service.ArchiveService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,7 +15,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -33,10 +38,36 @@ public class ArchiveController {
             content = @Content(array = @ArraySchema(schema = @Schema(implementation = ArchiveSummaryResponse.class))))
     @GetMapping
     public ApiCommonResponse<List<ArchiveSummaryResponse>> getMonthlyArchive(
-            @Parameter(hidden = true) @CurrentUser Long userId,
+            @Parameter(hidden = true) @CurrentUser AuthContext context,
             @Parameter(description = "조회 년도", example = "2026") @RequestParam int year,
             @Parameter(description = "조회 월", example = "2") @RequestParam int month) {
-        return ApiCommonResponse.success("월별 아카이브 조회 성공", archiveService.getMonthlyArchive(userId, year, month));
+        return ApiCommonResponse.success("월별 아카이브 조회 성공", archiveService.getMonthlyArchive(context, year, month));
+    }
+
+    @Operation(summary = "여러 달 아카이브 요약 조회 (캘린더 스크롤용)",
+            description = "from~to(포함) 기간의 요약을 날짜순으로 한 줄에 하나씩(NDJSON) 스트리밍합니다. 최대 24개월.")
+    @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = ArchiveSummaryResponse.class)))
+    @GetMapping(value = "/range", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> getArchiveRange(
+            @Parameter(hidden = true) @CurrentUser AuthContext context,
+            @Parameter(description = "시작 월 (yyyy-MM)", example = "2025-03") @RequestParam String from,
+            @Parameter(description = "종료 월 (yyyy-MM)", example = "2026-02") @RequestParam String to) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(archiveService.streamArchiveRange(context, from, to));
+    }
+
+    @Operation(summary = "아카이브 타임라인 조회 (최신순, 커서 기반)",
+            description = "첫 페이지는 cursor 없이 호출하고, 이후에는 응답의 nextCursor를 그대로 전달합니다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = TimelineResponse.class)))
+    @GetMapping("/timeline")
+    public ApiCommonResponse<TimelineResponse> getTimeline(
+            @Parameter(hidden = true) @CurrentUser AuthContext context,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)", example = "20") @RequestParam(defaultValue = "20") int size) {
+        return ApiCommonResponse.success("아카이브 타임라인 조회 성공", archiveService.getTimeline(context, cursor, size));
     }
 
     @Operation(summary = "아카이브 상세 조회")
@@ -1,5 +1,6 @@
 package com.unlock.api.domain.answer.dto;
 
+import com.unlock.api.common.security.util.EncryptedContent;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
@@ -71,4 +72,31 @@ public class AnswerDto {
         @Schema(description = "작성 시각", example = "2026-02-06T15:00:00")
         private LocalDateTime createdAt;
     }
+
+    /**
+     * 오늘 화면 조회용 단일 쿼리 결과 (Querydsl 프로젝션)
+     * 커플 정보, 가장 최근 배정 질문, 두 사람의 답변과 서로의 답변 열람 여부를 한 행으로 담습니다.
+     * 커플이 없으면 coupleId가, 배정된 질문이 없으면 questionId가 null입니다.
+     * userNRevealed: userN이 파트너의 답변을 열람 해제했는지 여부
+     * 답변 내용은 복호화 전 상태(EncryptedContent)이며, 화면에 보여줄 때만 복호화합니다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class TodayAnswerRow {
+        private Long coupleId;
+        private Boolean subscribed;
+        private Long questionId;
+        private Long user1Id;
+        private String user1Nickname;
+        private Long user1AnswerId;
+        private EncryptedContent user1AnswerContent;
+        private LocalDateTime user1AnswerCreatedAt;
+        private Boolean user1Revealed;
+        private Long user2Id;
+        private String user2Nickname;
+        private Long user2AnswerId;
+        private EncryptedContent user2AnswerContent;
+        private LocalDateTime user2AnswerCreatedAt;
+        private Boolean user2Revealed;
+    }
 }
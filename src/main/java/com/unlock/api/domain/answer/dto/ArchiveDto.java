@@ -1,5 +1,6 @@
 package com.unlock.api.domain.answer.dto;
 
+import com.unlock.api.common.security.util.EncryptedContent;
 import com.unlock.api.domain.question.entity.QuestionCategory;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -8,6 +9,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 아카이브(기록장) 관련 데이터 전송 객체
@@ -57,4 +60,80 @@ public class ArchiveDto {
         @Schema(description = "파트너의 답변 정보")
         private AnswerDto.PartnerAnswerDto partnerAnswer;
     }
-}
\ No newline at end of file
+
+    /**
+     * 아카이브 상세 조회용 단일 쿼리 결과 (Querydsl 프로젝션)
+     * 커플이 없으면 coupleId가, 해당 질문이 커플에게 배정된 적이 없으면 assignedDate가 null입니다.
+     * revealed: 내가 파트너의 답변을 열람 해제했는지 여부
+     * 답변 내용은 복호화 전 상태(EncryptedContent)이며, 실제로 보여줄 답변만 서비스에서 복호화합니다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ArchiveDetailRow {
+        private Long coupleId;
+        private Boolean subscribed;
+        private LocalDate assignedDate;
+        private String partnerNickname;
+        private Long myAnswerId;
+        private EncryptedContent myAnswerContent;
+        private LocalDateTime myAnswerCreatedAt;
+        private Long partnerAnswerId;
+        private EncryptedContent partnerAnswerContent;
+        private LocalDateTime partnerAnswerCreatedAt;
+        private Boolean revealed;
+    }
+
+    @Getter
+    @Builder
+    @Schema(description = "아카이브 타임라인 페이지")
+    public static class TimelineResponse {
+        @Schema(description = "최신순 기록 목록")
+        private List<TimelineItem> items;
+
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "djE6MjA0ODU6MTAy")
+        private String nextCursor;
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        private boolean hasNext;
+    }
+
+    @Getter
+    @Builder
+    @Schema(description = "아카이브 타임라인 항목")
+    public static class TimelineItem {
+        @Schema(description = "질문 고유 ID", example = "10")
+        private Long questionId;
+
+        @Schema(description = "질문 내용", example = "상대방의 신체 부위 중 가장 매력적인 곳은?")
+        private String questionContent;
+
+        @Schema(description = "질문 카테고리", example = "DEEP_TALK")
+        private QuestionCategory category;
+
+        @Schema(description = "배정된 날짜", example = "2026-02-06")
+        private LocalDate date;
+
+        @Schema(description = "나의 답변 여부", example = "true")
+        private boolean myAnswered;
+
+        @Schema(description = "파트너의 답변 여부", example = "true")
+        private boolean partnerAnswered;
+
+        @Schema(description = "파트너 답변 열람 가능 여부", example = "false")
+        private boolean isRevealed;
+    }
+
+    /**
+     * 타임라인 조회용 쿼리 결과 (Querydsl 프로젝션)
+     * partnerAnswerId: 파트너 답변 ID (미작성 시 null, 열람 여부는 RevealResolver로 일괄 판별)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class TimelineRow {
+        private Long coupleQuestionId;
+        private Long questionId;
+        private LocalDate assignedDate;
+        private Boolean myAnswered;
+        private Long partnerAnswerId;
+    }
+}
@@ -1,6 +1,7 @@
 package com.unlock.api.domain.answer.entity;
 
-import com.unlock.api.common.security.util.AesEncryptionConverter;
+import com.unlock.api.common.security.util.EncryptedContent;
+import com.unlock.api.common.security.util.EncryptedContentConverter;
 import com.unlock.api.domain.common.BaseTimeEntity;
 import com.unlock.api.domain.question.entity.Question;
 import com.unlock.api.domain.user.entity.User;
@@ -19,6 +20,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Mutability;
+import org.hibernate.type.descriptor.java.Immutability;
 
 /**
  * 질문에 대한 사용자 답변 엔티티
@@ -44,7 +47,8 @@ public class Answer extends BaseTimeEntity {
     @JoinColumn(name = "user_id", nullable = false)
     private User user; // 답변 작성자
 
-    @Convert(converter = AesEncryptionConverter.class)
+    @Convert(converter = EncryptedContentConverter.class)
+    @Mutability(Immutability.class)
     @Column(nullable = false, columnDefinition = "TEXT")
-    private String content; // 답변 내용 (AES-256 암호화 저장)
+    private EncryptedContent content; // 답변 내용 (AES-256 암호화 저장, 평문이 필요할 때만 복호화)
 }
\ No newline at end of file
@@ -4,9 +4,11 @@ import com.unlock.api.domain.answer.entity.Answer;
 import com.unlock.api.domain.question.entity.Question;
 import com.unlock.api.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +28,18 @@ public interface AnswerRepository extends JpaRepository<Answer, Long>, AnswerRep
      */
     boolean existsByUserAndQuestion(User user, Question question);
 
+    /**
+     * 답변 등록 (이미 답변이 있으면 아무것도 하지 않음, (question_id, user_id) 유니크 인덱스 사용)
+     * 네이티브 쿼리라 컨버터를 거치지 않으므로 content는 암호화된 값을 넘겨야 합니다.
+     * @return 등록된 행 수 (이미 답변이 있으면 0)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO answers (question_id, user_id, content, created_at, updated_at) "
+            + "VALUES (:questionId, :userId, :content, :now, :now) "
+            + "ON CONFLICT (question_id, user_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("questionId") Long questionId,
+                       @Param("content") String encryptedContent, @Param("now") LocalDateTime now);
+
     /**
      * 특정 유저의 모든 답변 삭제 (커플 해제 시 사용)
      */
@@ -36,4 +50,5 @@ public interface AnswerRepository extends JpaRepository<Answer, Long>, AnswerRep
      */
     @Query("SELECT a FROM Answer a WHERE a.user = :user AND a.question.id IN :questionIds")
     List<Answer> findAllByUserAndQuestionIds(@Param("user") User user, @Param("questionIds") List<Long> questionIds);
+
 }
\ No newline at end of file
@@ -1,8 +1,14 @@
 package com.unlock.api.domain.answer.repository;
 
+import com.unlock.api.domain.answer.dto.AnswerDto.TodayAnswerRow;
+import com.unlock.api.domain.answer.dto.ArchiveDto.ArchiveDetailRow;
 import com.unlock.api.domain.answer.dto.ArchiveDto.ArchiveSummaryResponse;
+import com.unlock.api.domain.answer.dto.ArchiveDto.TimelineRow;
 import com.unlock.api.domain.couple.entity.Couple;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Answer 관련 커스텀 쿼리 인터페이스 (Querydsl용)
@@ -14,4 +20,31 @@ public interface AnswerRepositoryCustom {
      * 특정 커플의 월별 질문 및 답변 여부 요약을 DTO로 직접 조회합니다.
      */
     List<ArchiveSummaryResponse> findMonthlyArchiveSummary(Couple couple, Long userId, Long partnerId, int year, int month);
+
+    /**
+     * 특정 커플의 기간 [from, to) 질문 및 답변 여부 요약을 날짜순 스트림으로 조회합니다. (여러 달 캘린더용)
+     * 결과를 한 번에 메모리에 올리지 않고 커서로 읽으므로, 트랜잭션 안에서 사용하고 반드시 닫아야 합니다.
+     */
+    Stream<ArchiveSummaryResponse> streamArchiveSummary(Couple couple, Long userId, Long partnerId, LocalDate from, LocalDate to);
+
+    /**
+     * 특정 커플의 배정 기록과 두 사람의 답변을 (배정 날짜, ID) 내림차순으로 키셋 페이지 조회합니다. (타임라인용)
+     * 커서(cursorDate, cursorId)보다 뒤의 기록만 조회하므로, 몇 번째 페이지든 인덱스에서 바로 이어서 읽습니다.
+     * @param cursorDate 이전 페이지 마지막 기록의 배정 날짜 (첫 페이지면 null)
+     * @param cursorId   이전 페이지 마지막 기록의 ID (첫 페이지면 null)
+     */
+    List<TimelineRow> findTimeline(Couple couple, Long userId, Long partnerId, LocalDate cursorDate, Long cursorId, int limit);
+
+    /**
+     * 유저 기준 오늘 화면 데이터(커플, 최근 질문, 두 사람의 답변 및 열람 여부)를 단일 쿼리로 조회합니다.
+     * 유저가 없으면 빈 값을 반환합니다.
+     */
+    Optional<TodayAnswerRow> findTodayAnswerRow(Long userId);
+
+    /**
+     * 유저 기준 특정 질문의 아카이브 상세(배정 날짜, 두 사람의 답변, 열람 여부)를 단일 쿼리로 조회합니다.
+     * (couple_id, question_id) 인덱스로 해당 배정 기록만 찾으므로, 커플의 전체 이력 길이와 무관합니다.
+     * 유저가 없으면 빈 값을 반환합니다.
+     */
+    Optional<ArchiveDetailRow> findArchiveDetailRow(Long userId, Long questionId);
 }
@@ -1,15 +1,28 @@
 package com.unlock.api.domain.answer.repository;
 
+import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.unlock.api.domain.answer.dto.AnswerDto.TodayAnswerRow;
+import com.unlock.api.domain.answer.dto.ArchiveDto.ArchiveDetailRow;
 import com.unlock.api.domain.answer.dto.ArchiveDto.ArchiveSummaryResponse;
+import com.unlock.api.domain.answer.dto.ArchiveDto.TimelineRow;
 import com.unlock.api.domain.answer.entity.QAnswer;
+import com.unlock.api.domain.answer.entity.QAnswerReveal;
 import com.unlock.api.domain.couple.entity.Couple;
+import com.unlock.api.domain.couple.entity.QCouple;
 import com.unlock.api.domain.question.entity.QCoupleQuestion;
+import com.unlock.api.domain.user.entity.QUser;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * AnswerRepositoryCustom의 구현체
@@ -19,10 +32,67 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AnswerRepositoryImpl implements AnswerRepositoryCustom {
 
+    // 스트리밍 조회 시 한 번에 가져올 행 수 (PostgreSQL은 트랜잭션 안에서만 커서 단위로 가져옴)
+    private static final int STREAM_FETCH_SIZE = 100;
+
     private final JPAQueryFactory queryFactory;
 
     @Override
     public List<ArchiveSummaryResponse> findMonthlyArchiveSummary(Couple couple, Long userId, Long partnerId, int year, int month) {
+        // 반열린 구간 [월 첫날, 다음 달 첫날) - 인덱스 범위 검색이 가능하도록 컬럼에 함수를 적용하지 않음
+        LocalDate from = LocalDate.of(year, month, 1);
+        return archiveSummaryQuery(couple, userId, partnerId, from, from.plusMonths(1)).fetch();
+    }
+
+    @Override
+    public Stream<ArchiveSummaryResponse> streamArchiveSummary(Couple couple, Long userId, Long partnerId, LocalDate from, LocalDate to) {
+        return archiveSummaryQuery(couple, userId, partnerId, from, to)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .stream();
+    }
+
+    @Override
+    public List<TimelineRow> findTimeline(Couple couple, Long userId, Long partnerId, LocalDate cursorDate, Long cursorId, int limit) {
+        QCoupleQuestion coupleQuestion = QCoupleQuestion.coupleQuestion;
+        QAnswer myAnswer = new QAnswer("myAnswer");
+        QAnswer partnerAnswer = new QAnswer("partnerAnswer");
+
+        BooleanBuilder where = new BooleanBuilder(coupleQuestion.couple.eq(couple));
+        if (cursorDate != null && cursorId != null) {
+            // (assigned_date, id) < (cursorDate, cursorId)
+            // assigned_date <= cursorDate는 인덱스 범위 조건으로 쓰여 커서 위치부터 바로 읽게 합니다.
+            where.and(coupleQuestion.assignedDate.loe(cursorDate))
+                    .and(coupleQuestion.assignedDate.lt(cursorDate)
+                            .or(coupleQuestion.id.lt(cursorId)));
+        }
+
+        return queryFactory
+                .select(Projections.constructor(TimelineRow.class,
+                        coupleQuestion.id,
+                        coupleQuestion.question.id,
+                        coupleQuestion.assignedDate,
+                        myAnswer.id.isNotNull(),      // 내 답변 존재 여부
+                        partnerAnswer.id              // 파트너 답변 ID (열람 여부는 서비스에서 일괄 판별)
+                ))
+                .from(coupleQuestion)
+                .leftJoin(myAnswer).on(
+                        myAnswer.question.eq(coupleQuestion.question)
+                        .and(myAnswer.user.id.eq(userId))
+                )
+                .leftJoin(partnerAnswer).on(
+                        partnerAnswer.question.eq(coupleQuestion.question)
+                        .and(partnerAnswer.user.id.eq(partnerId))
+                )
+                .where(where)
+                .orderBy(coupleQuestion.assignedDate.desc(), coupleQuestion.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 기간 [from, to) 아카이브 요약 쿼리 (월별 조회와 기간 스트리밍 조회 공용)
+     */
+    private JPAQuery<ArchiveSummaryResponse> archiveSummaryQuery(Couple couple, Long userId, Long partnerId, LocalDate from, LocalDate to) {
         QCoupleQuestion coupleQuestion = QCoupleQuestion.coupleQuestion;
         QAnswer myAnswer = new QAnswer("myAnswer");
         QAnswer partnerAnswer = new QAnswer("partnerAnswer");
@@ -46,10 +116,123 @@ public class AnswerRepositoryImpl implements AnswerRepositoryCustom {
                 )
                 .where(
                         coupleQuestion.couple.eq(couple)
-                        .and(coupleQuestion.assignedDate.year().eq(year))
-                        .and(coupleQuestion.assignedDate.month().eq(month))
+                        .and(coupleQuestion.assignedDate.goe(from))
+                        .and(coupleQuestion.assignedDate.lt(to))
                 )
-                .orderBy(coupleQuestion.assignedDate.asc())
-                .fetch();
+                .orderBy(coupleQuestion.assignedDate.asc());
+    }
+
+    @Override
+    public Optional<TodayAnswerRow> findTodayAnswerRow(Long userId) {
+        QUser user = QUser.user;
+        QCouple couple = QCouple.couple;
+        QUser user1 = new QUser("user1");
+        QUser user2 = new QUser("user2");
+        QCoupleQuestion coupleQuestion = QCoupleQuestion.coupleQuestion;
+        QCoupleQuestion latest = new QCoupleQuestion("latest");
+        QAnswer user1Answer = new QAnswer("user1Answer");
+        QAnswer user2Answer = new QAnswer("user2Answer");
+        QAnswerReveal user1Reveal = new QAnswerReveal("user1Reveal");
+        QAnswerReveal user2Reveal = new QAnswerReveal("user2Reveal");
+
+        return Optional.ofNullable(queryFactory
+                .select(Projections.constructor(TodayAnswerRow.class,
+                        couple.id,
+                        couple.isSubscribed,
+                        coupleQuestion.question.id,
+                        user1.id,
+                        user1.nickname,
+                        user1Answer.id,
+                        user1Answer.content,
+                        user1Answer.createdAt,
+                        user1Reveal.id.isNotNull(),   // user1이 user2의 답변을 열람했는지
+                        user2.id,
+                        user2.nickname,
+                        user2Answer.id,
+                        user2Answer.content,
+                        user2Answer.createdAt,
+                        user2Reveal.id.isNotNull()    // user2가 user1의 답변을 열람했는지
+                ))
+                .from(user)
+                .leftJoin(user.couple, couple)
+                .leftJoin(couple.user1, user1)
+                .leftJoin(couple.user2, user2)
+                .leftJoin(coupleQuestion).on(
+                        coupleQuestion.couple.eq(couple)
+                        .and(coupleQuestion.assignedDate.eq(
+                                JPAExpressions.select(latest.assignedDate.max())
+                                        .from(latest)
+                                        .where(latest.couple.eq(couple))))
+                )
+                .leftJoin(user1Answer).on(
+                        user1Answer.question.eq(coupleQuestion.question)
+                        .and(user1Answer.user.eq(user1))
+                )
+                .leftJoin(user2Answer).on(
+                        user2Answer.question.eq(coupleQuestion.question)
+                        .and(user2Answer.user.eq(user2))
+                )
+                .leftJoin(user1Reveal).on(
+                        user1Reveal.answer.eq(user2Answer)
+                        .and(user1Reveal.user.eq(user1))
+                )
+                .leftJoin(user2Reveal).on(
+                        user2Reveal.answer.eq(user1Answer)
+                        .and(user2Reveal.user.eq(user2))
+                )
+                .where(user.id.eq(userId))
+                .orderBy(coupleQuestion.id.desc()) // 같은 날짜에 배정 기록이 여러 건이면 가장 최근 기록
+                .fetchFirst());
+    }
+
+    @Override
+    public Optional<ArchiveDetailRow> findArchiveDetailRow(Long userId, Long questionId) {
+        QUser user = QUser.user;
+        QCouple couple = QCouple.couple;
+        QUser partner = new QUser("partner");
+        QCoupleQuestion coupleQuestion = QCoupleQuestion.coupleQuestion;
+        QAnswer myAnswer = new QAnswer("myAnswer");
+        QAnswer partnerAnswer = new QAnswer("partnerAnswer");
+        QAnswerReveal reveal = QAnswerReveal.answerReveal;
+
+        return Optional.ofNullable(queryFactory
+                .select(Projections.constructor(ArchiveDetailRow.class,
+                        couple.id,
+                        couple.isSubscribed,
+                        coupleQuestion.assignedDate,
+                        partner.nickname,
+                        myAnswer.id,
+                        myAnswer.content,
+                        myAnswer.createdAt,
+                        partnerAnswer.id,
+                        partnerAnswer.content,
+                        partnerAnswer.createdAt,
+                        reveal.id.isNotNull()   // 내가 파트너 답변을 열람했는지
+                ))
+                .from(user)
+                .leftJoin(user.couple, couple)
+                .leftJoin(partner).on(
+                        partner.couple.eq(couple)
+                        .and(partner.id.ne(userId))
+                )
+                .leftJoin(coupleQuestion).on(
+                        coupleQuestion.couple.eq(couple)
+                        .and(coupleQuestion.question.id.eq(questionId))
+                )
+                .leftJoin(myAnswer).on(
+                        myAnswer.question.id.eq(questionId)
+                        .and(myAnswer.user.eq(user))
+                )
+                .leftJoin(partnerAnswer).on(
+                        partnerAnswer.question.id.eq(questionId)
+                        .and(partnerAnswer.user.eq(partner))
+                )
+                .leftJoin(reveal).on(
+                        reveal.answer.eq(partnerAnswer)
+                        .and(reveal.user.eq(user))
+                )
+                .where(user.id.eq(userId))
+                .orderBy(coupleQuestion.assignedDate.desc().nullsLast())
+                .fetchFirst());
     }
 }
@@ -1,16 +1,32 @@
 package com.unlock.api.domain.answer.repository;
 
-import com.unlock.api.domain.answer.entity.Answer;
 import com.unlock.api.domain.answer.entity.AnswerReveal;
 import com.unlock.api.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface AnswerRevealRepository extends JpaRepository<AnswerReveal, Long> {
-    
+
+    /**
+     * 특정 유저가 열람(광고 시청 등)한 모든 답변 ID 조회 (오름차순, (user_id, answer_id) 유니크 인덱스 사용)
+     */
+    @Query("SELECT r.answer.id FROM AnswerReveal r WHERE r.user.id = :userId ORDER BY r.answer.id")
+    List<Long> findAnswerIdsByUserId(@Param("userId") Long userId);
+
     /**
-     * 특정 유저가 특정 답변을 열람(광고 시청 등)했는지 확인
+     * 열람 기록 저장 (이미 있으면 아무것도 하지 않음, (user_id, answer_id) 유니크 인덱스 사용)
+     * @return 저장된 행 수 (이미 열람했으면 0)
      */
-    boolean existsByUserAndAnswer(User user, Answer answer);
+    @Modifying
+    @Query(value = "INSERT INTO answer_reveals (user_id, answer_id, created_at, updated_at) "
+            + "VALUES (:userId, :answerId, :now, :now) "
+            + "ON CONFLICT (user_id, answer_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("answerId") Long answerId, @Param("now") LocalDateTime now);
 
     /**
      * 특정 유저의 모든 열람 기록 삭제 (커플 해제 시 사용)
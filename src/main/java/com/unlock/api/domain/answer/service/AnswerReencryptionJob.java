@@ -0,0 +1,141 @@
+package com.unlock.api.domain.answer.service;
+
+import com.unlock.api.common.security.util.AesEncryptionConverter;
+import com.unlock.api.domain.auth.service.RedisService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 답변 암호문 온라인 재암호화 작업
+ * 이전 형식(AES/ECB)이나 이전 키로 저장된 답변을 현재 키의 AES-GCM 형식으로 바꿉니다.
+ * - answers를 ID 기준 키셋 배치로 훑으며, 실행 주기마다 한 배치만 처리합니다. (처리량 상한 = batch-size / interval)
+ * - 진행 위치는 Redis(REENCRYPT:ANSWERS)에 "{키 ID}:{마지막 ID}"로 남겨 재시작/다른 노드에서 이어서 진행하며,
+ *   끝까지 돌면 "{키 ID}:done"으로 기록해 같은 키로는 다시 훑지 않습니다.
+ * - 여러 노드가 동시에 같은 배치를 처리하지 않도록 배치마다 리스를 잡습니다.
+ * - 읽은 뒤 내용이 바뀐 행은 덮어쓰지 않습니다. (UPDATE ... WHERE content = 이전 값)
+ * - 복호화할 수 없는 행(손상된 암호문, 알 수 없는 키 ID, 키 교체 후의 이전 형식 등)은 건너뛰고 ID를 로그로 남기며,
+ *   진행 위치는 그대로 전진합니다. (unlock.encryption.reencrypt.failed)
+ * - 마이그레이션 기간에만 켜 두는 작업이므로 기본값은 비활성이며, 완료를 확인한 노드는 이후 Redis를 조회하지 않습니다.
+ * 암호문은 Hibernate를 거치지 않도록 JdbcTemplate으로 직접 읽고 씁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnswerReencryptionJob {
+
+    private static final String PROGRESS_KEY = "REENCRYPT:ANSWERS";
+    private static final String LEASE_KEY = "REENCRYPT";
+    private static final String DONE = "done";
+    private static final long LEASE_MILLIS = 30_000;
+    // 배치당 로그에 남길 실패 ID 최대 개수
+    private static final int MAX_LOGGED_FAILURES = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisService redisService;
+    private final AesEncryptionConverter aesEncryptionConverter;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${encryption.reencrypt.enabled}")
+    private boolean enabled;
+
+    @Value("${encryption.reencrypt.batch-size}")
+    private int batchSize;
+
+    @Value("${encryption.key-id}")
+    private String activeKeyId;
+
+    private final String owner = UUID.randomUUID().toString();
+
+    // 현재 키로 재암호화가 끝났음을 확인했으면 true (키는 재시작해야 바뀌므로 노드 로컬로 기억)
+    private volatile boolean completed;
+
+    private Counter failedCounter;
+
+    @PostConstruct
+    void initMetrics() {
+        failedCounter = Counter.builder("unlock.encryption.reencrypt.failed")
+                .description("복호화할 수 없어 재암호화하지 못하고 건너뛴 답변 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${encryption.reencrypt.interval-ms}")
+    public void run() {
+        if (!enabled || completed) return;
+        String progress = redisTemplate.opsForValue().get(PROGRESS_KEY);
+        if ((activeKeyId + ":" + DONE).equals(progress)) {
+            completed = true;
+            return;
+        }
+        if (!redisService.acquireScheduleBucket(LEASE_KEY, 0, owner, LEASE_MILLIS)) return;
+
+        try {
+            long lastId = lastId(redisTemplate.opsForValue().get(PROGRESS_KEY));
+            List<Row> rows = jdbcTemplate.query(
+                    "SELECT id, content FROM answers WHERE id > ? ORDER BY id LIMIT ?",
+                    (rs, rowNum) -> new Row(rs.getLong("id"), rs.getString("content")),
+                    lastId, batchSize);
+
+            if (rows.isEmpty()) {
+                redisTemplate.opsForValue().set(PROGRESS_KEY, activeKeyId + ":" + DONE);
+                completed = true;
+                log.info("[REENCRYPT] 답변 재암호화 완료 (키 ID: {})", activeKeyId);
+                return;
+            }
+
+            List<Object[]> updates = new ArrayList<>();
+            List<Long> failedIds = new ArrayList<>();
+            for (Row row : rows) {
+                if (!aesEncryptionConverter.needsReencryption(row.content())) continue;
+                try {
+                    updates.add(new Object[]{aesEncryptionConverter.reencrypt(row.content()), row.id(), row.content()});
+                } catch (RuntimeException e) {
+                    // 한 행의 실패로 배치 전체가 멈추지 않도록 건너뜀 (첫 실패만 스택 트레이스 기록)
+                    if (failedIds.isEmpty()) log.error("[REENCRYPT] 답변(ID:{}) 복호화 실패", row.id(), e);
+                    failedIds.add(row.id());
+                }
+            }
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate("UPDATE answers SET content = ? WHERE id = ? AND content = ?", updates);
+            }
+            if (!failedIds.isEmpty()) {
+                failedCounter.increment(failedIds.size());
+                log.warn("[REENCRYPT] 복호화할 수 없는 답변 {}건 건너뜀 (ID: {}{})", failedIds.size(),
+                        failedIds.subList(0, Math.min(failedIds.size(), MAX_LOGGED_FAILURES)),
+                        failedIds.size() > MAX_LOGGED_FAILURES ? " 외" : "");
+            }
+
+            long nextId = rows.get(rows.size() - 1).id();
+            redisTemplate.opsForValue().set(PROGRESS_KEY, activeKeyId + ":" + nextId);
+            log.info("[REENCRYPT] 답변 {}건 재암호화 (ID ~{})", updates.size(), nextId);
+        } catch (Exception e) {
+            log.error("[REENCRYPT] 답변 재암호화 실패", e);
+        } finally {
+            redisService.releaseScheduleBucket(LEASE_KEY, 0, owner);
+        }
+    }
+
+    /**
+     * 현재 키로 진행 중이던 위치 (키가 바뀌었거나 기록이 없으면 처음부터)
+     */
+    private long lastId(String progress) {
+        String prefix = activeKeyId + ":";
+        if (progress == null || !progress.startsWith(prefix) || progress.endsWith(":" + DONE)) return 0L;
+        return Long.parseLong(progress.substring(prefix.length()));
+    }
+
+    private record Row(long id, String content) {
+    }
+}
@@ -2,25 +2,33 @@ package com.unlock.api.domain.answer.service;
 
 import com.unlock.api.common.exception.BusinessException;
 import com.unlock.api.common.exception.ErrorCode;
+import com.unlock.api.common.security.auth.AuthContext;
+import com.unlock.api.common.security.util.AesEncryptionConverter;
+import com.unlock.api.common.security.util.EncryptedContent;
 import com.unlock.api.domain.answer.dto.AnswerDto.AnswerRequest;
 import com.unlock.api.domain.answer.dto.AnswerDto.MyAnswerDto;
 import com.unlock.api.domain.answer.dto.AnswerDto.PartnerAnswerDto;
 import com.unlock.api.domain.answer.dto.AnswerDto.TodayAnswerResponse;
 import com.unlock.api.domain.answer.entity.Answer;
-import com.unlock.api.domain.answer.entity.AnswerReveal;
 import com.unlock.api.domain.answer.repository.AnswerRepository;
 import com.unlock.api.domain.answer.repository.AnswerRevealRepository;
 import com.unlock.api.domain.auth.entity.NotificationType;
 import com.unlock.api.domain.auth.service.FcmService;
-import com.unlock.api.domain.couple.entity.Couple;
+import com.unlock.api.domain.couple.repository.CoupleRepository;
 import com.unlock.api.domain.question.entity.CoupleQuestion;
 import com.unlock.api.domain.question.repository.CoupleQuestionRepository;
-import com.unlock.api.domain.user.entity.User;
+import com.unlock.api.domain.question.service.TodaySnapshotCache;
+import com.unlock.api.domain.question.service.TodaySnapshotCache.Member;
+import com.unlock.api.domain.question.service.TodaySnapshotCache.TodaySnapshot;
 import com.unlock.api.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Map;
+
 /**
  * 답변 등록 및 열람 권한 관리 비즈니스 로직 서비스
  */
@@ -33,74 +41,68 @@ public class AnswerService {
     private final AnswerRevealRepository answerRevealRepository;
     private final CoupleQuestionRepository coupleQuestionRepository;
     private final UserRepository userRepository;
+    private final CoupleRepository coupleRepository;
     private final FcmService fcmService;
+    private final TodaySnapshotCache todaySnapshotCache;
+    private final ArchiveMonthCache archiveMonthCache;
+    private final RevealResolver revealResolver;
+    private final AesEncryptionConverter aesEncryptionConverter;
 
     /**
      * 답변 등록
      * [고도화]: 날짜와 상관없이 가장 최근에 배정된(또는 이월된) 질문에 대해 답변을 등록합니다.
+     * 유저/커플 엔티티를 로딩하지 않고 인증 컨텍스트의 ID와 닉네임만 사용합니다.
      */
-    public void submitAnswer(Long userId, AnswerRequest request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-        Couple couple = user.getCouple();
-        if (couple == null) throw new BusinessException(ErrorCode.COUPLE_NOT_FOUND);
+    public void submitAnswer(AuthContext context, AnswerRequest request) {
+        if (!context.hasCouple()) throw new BusinessException(ErrorCode.COUPLE_NOT_FOUND);
+        Long coupleId = context.coupleId();
 
         // 가장 최근에 배정된 질문 조회 (날짜가 지났더라도 미완료라면 이 질문에 답해야 함)
-        CoupleQuestion coupleQuestion = coupleQuestionRepository.findTopByCoupleOrderByAssignedDateDesc(couple)
+        CoupleQuestion coupleQuestion = coupleQuestionRepository.findTopByCoupleOrderByAssignedDateDesc(coupleRepository.getReferenceById(coupleId))
                 .orElseThrow(() -> new BusinessException(ErrorCode.QUESTION_NOT_FOUND));
 
-        // 중복 답변 방지
-        if (answerRepository.existsByUserAndQuestion(user, coupleQuestion.getQuestion())) {
+        // 중복 답변 방지 (조회 후 저장 대신 단일 INSERT ... ON CONFLICT DO NOTHING으로 동시 요청 경합 차단)
+        int inserted = answerRepository.insertIfAbsent(context.userId(), coupleQuestion.getQuestion().getId(),
+                aesEncryptionConverter.convertToDatabaseColumn(request.getContent()), LocalDateTime.now());
+        if (inserted == 0) {
             throw new BusinessException(ErrorCode.ANSWER_ALREADY_EXISTS);
         }
 
-        Answer answer = Answer.builder()
-                .user(user)
-                .question(coupleQuestion.getQuestion())
-                .content(request.getContent())
-                .build();
-
-        answerRepository.save(answer);
+        todaySnapshotCache.evict(coupleId);
+        archiveMonthCache.evict(coupleId, YearMonth.from(coupleQuestion.getAssignedDate()));
 
         // [Push Notification] 파트너에게 알림 발송
-        User partner = couple.getUser1().getId().equals(userId) ? couple.getUser2() : couple.getUser1();
-        fcmService.sendToUser(partner, "un:lock 🔓", user.getNickname() + "님이 답변을 완료했습니다! 확인하러 가볼까요?", NotificationType.PARTNER_ANSWER);
+        fcmService.sendToUser(userRepository.getReferenceById(context.partnerId()), "un:lock 🔓",
+                context.nickname() + "님이 답변을 완료했습니다! 확인하러 가볼까요?", NotificationType.PARTNER_ANSWER);
     }
 
     /**
      * 현재 활성화된 답변 현황 조회
      * [고도화]: 가장 최근 배정된 질문을 기준으로 답변 상태를 조회합니다.
+     * 커플의 오늘 스냅샷 캐시를 사용하며, 캐시 적중 시 DB를 조회하지 않습니다.
      */
     @Transactional(readOnly = true)
-    public TodayAnswerResponse getTodayAnswers(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-        Couple couple = user.getCouple();
-        if (couple == null) throw new BusinessException(ErrorCode.COUPLE_NOT_FOUND);
+    public TodayAnswerResponse getTodayAnswers(AuthContext context) {
+        Long userId = context.userId();
+        // 가장 최근 질문 기준 스냅샷 조회
+        TodaySnapshot snapshot = todaySnapshotCache.get(context);
+        if (snapshot.getQuestionId() == null) throw new BusinessException(ErrorCode.QUESTION_NOT_FOUND);
 
-        // 가장 최근 질문 조회
-        CoupleQuestion coupleQuestion = coupleQuestionRepository.findTopByCoupleOrderByAssignedDateDesc(couple)
-                .orElseThrow(() -> new BusinessException(ErrorCode.QUESTION_NOT_FOUND));
-
-        // 1. 내 답변 조회 (미작성 시 파트너 답변 조회를 차단하기 위해 예외 발생)
-        Answer myAnswer = answerRepository.findByUserAndQuestion(user, coupleQuestion.getQuestion())
-                .orElseThrow(() -> new BusinessException(ErrorCode.PARTNER_ANSWER_LOCKED));
+        // 1. 내 답변 확인 (미작성 시 파트너 답변 조회를 차단하기 위해 예외 발생)
+        Member me = snapshot.member(userId);
+        if (me.getAnswerId() == null) throw new BusinessException(ErrorCode.PARTNER_ANSWER_LOCKED);
 
-        // 2. 파트너 답변 조회
-        User partner = couple.getUser1().getId().equals(userId) ? couple.getUser2() : couple.getUser1();
-        Answer partnerAnswer = answerRepository.findByUserAndQuestion(partner, coupleQuestion.getQuestion()).orElse(null);
+        // 2. 파트너 답변 현황
+        Member partner = snapshot.partnerOf(userId);
 
         // 3. 열람 권한 체크 (구독 중이거나, 이미 광고를 시청하여 해제했는지 확인)
-        boolean isRevealed = false;
-        if (partnerAnswer != null) {
-            isRevealed = couple.isSubscribed() || answerRevealRepository.existsByUserAndAnswer(user, partnerAnswer);
-        }
+        boolean isRevealed = partner.getAnswerId() != null
+                && (snapshot.isSubscribed() || me.isRevealedPartnerAnswer());
 
+        Map<Long, EncryptedContent> contents = todaySnapshotCache.getAnswerContents(snapshot);
         return TodayAnswerResponse.builder()
-                .myAnswer(convertToMyAnswerDto(myAnswer))
-                .partnerAnswer(convertToPartnerAnswerDto(partner, partnerAnswer, isRevealed))
+                .myAnswer(convertToMyAnswerDto(me, contents))
+                .partnerAnswer(convertToPartnerAnswerDto(partner, contents, isRevealed))
                 .build();
     }
 
@@ -108,67 +110,69 @@ public class AnswerService {
      * 파트너 답변 잠금 해제 (Unlock)
      * 광고 시청 완료 시 호출되며, 해당 답변에 대한 영구적인 열람 권한을 기록합니다.
      */
-    public void revealPartnerAnswer(Long userId, Long answerId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    public void revealPartnerAnswer(AuthContext context, Long answerId) {
+        Long userId = context.userId();
 
         // 1. 해제 대상 답변 존재 확인
         Answer targetAnswer = answerRepository.findById(answerId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ANSWER_NOT_FOUND));
+        Long ownerId = targetAnswer.getUser().getId();
 
         // 2. 보안 검증: 본인 답변은 해제 불필요
-        if (targetAnswer.getUser().getId().equals(userId)) {
+        if (ownerId.equals(userId)) {
             throw new BusinessException("자신의 답변은 해제할 필요가 없습니다.", ErrorCode.INVALID_INPUT_VALUE);
         }
 
-        // 3. 보안 검증: 실제 내 파트너의 답변이 맞는지 확인
-        Couple couple = user.getCouple();
-        if (couple == null || !targetAnswer.getUser().getCouple().getId().equals(couple.getId())) {
+        // 3. 보안 검증: 실제 내 파트너의 답변이 맞는지 확인 (작성자 엔티티를 로딩하지 않고 ID로 비교)
+        if (!context.hasCouple() || !ownerId.equals(context.partnerId())) {
             throw new BusinessException(ErrorCode.ACCESS_DENIED);
         }
 
         // 4. 비즈니스 검증: 상대방이 답변을 실제로 완료했는지 확인
-        if (targetAnswer.getContent() == null || targetAnswer.getContent().isBlank()) {
+        // (내용은 복호화하지 않고 비어 있는지만 확인)
+        if (targetAnswer.getContent() == null || targetAnswer.getContent().isEmpty()) {
             throw new BusinessException(ErrorCode.PARTNER_NOT_ANSWERED);
         }
 
-        // 5. 열람 기록 저장 (중복 기록 방지)
-        if (!answerRevealRepository.existsByUserAndAnswer(user, targetAnswer)) {
-            answerRevealRepository.save(AnswerReveal.builder()
-                    .user(user)
-                    .answer(targetAnswer)
-                    .build());
+        // 5. 열람 기록 저장 (이미 열람했으면 아무것도 하지 않음, 동시 요청도 단일 INSERT ... ON CONFLICT로 처리)
+        if (answerRevealRepository.insertIfAbsent(userId, answerId, LocalDateTime.now()) > 0) {
+            revealResolver.evict(userId);
+            todaySnapshotCache.evict(context.coupleId());
         }
     }
 
     /**
-     * Entity -> MyAnswerDto 변환 (상세 내용 포함)
+     * 스냅샷 -> MyAnswerDto 변환 (상세 내용 포함)
      */
-    private MyAnswerDto convertToMyAnswerDto(Answer answer) {
+    private MyAnswerDto convertToMyAnswerDto(Member me, Map<Long, EncryptedContent> contents) {
         return MyAnswerDto.builder()
-                .id(answer.getId())
-                .content(answer.getContent())
-                .createdAt(answer.getCreatedAt())
+                .id(me.getAnswerId())
+                .content(decrypt(contents.get(me.getAnswerId())))
+                .createdAt(me.getAnswerCreatedAt())
                 .build();
     }
 
     /**
-     * Entity -> PartnerAnswerDto 변환 (권한에 따른 마스킹 처리)
+     * 스냅샷 -> PartnerAnswerDto 변환 (권한에 따른 마스킹 처리)
      */
-    private PartnerAnswerDto convertToPartnerAnswerDto(User partner, Answer answer, boolean isRevealed) {
-        if (answer == null) {
+    private PartnerAnswerDto convertToPartnerAnswerDto(Member partner, Map<Long, EncryptedContent> contents, boolean isRevealed) {
+        if (partner.getAnswerId() == null) {
             return PartnerAnswerDto.builder()
                     .nickname(partner.getNickname())
                     .isWritten(false)
                     .build();
         }
         return PartnerAnswerDto.builder()
-                .id(answer.getId())
+                .id(partner.getAnswerId())
                 .nickname(partner.getNickname())
                 .isWritten(true)
                 .isRevealed(isRevealed)
-                .content(isRevealed ? answer.getContent() : "LOCKED") // 권한 없으면 마스킹
-                .createdAt(answer.getCreatedAt())
+                .content(isRevealed ? decrypt(contents.get(partner.getAnswerId())) : "LOCKED") // 권한 없으면 마스킹 (복호화하지 않음)
+                .createdAt(partner.getAnswerCreatedAt())
                 .build();
     }
+
+    private String decrypt(EncryptedContent content) {
+        return content == null ? null : content.decrypt();
+    }
 }
@@ -0,0 +1,246 @@
+package com.unlock.api.domain.answer.service;
+
+import com.unlock.api.domain.answer.dto.ArchiveDto.ArchiveSummaryResponse;
+import com.unlock.api.domain.answer.repository.AnswerRepository;
+import com.unlock.api.domain.couple.repository.CoupleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커플별 월간 아카이브(캘린더) 캐시
+ * 지난 달의 기록은 거의 바뀌지 않으므로 긴 TTL로, 이번 달은 짧은 TTL로 Redis(ARCHIVE:{coupleId}:{yyyyMM})에 보관합니다.
+ * - 유저 관점(내 답변/파트너 답변)이 아닌 커플 관점(user1/user2 답변 여부)으로 저장하여 두 사람이 같은 값을 공유합니다.
+ * - 질문 내용은 저장하지 않고 조회 시 질문 풀 캐시에서 채웁니다.
+ * - 값은 JSON 대신 고정 길이 바이너리로 직렬화합니다. (항목당 13바이트: 질문 ID 8 + 날짜 4 + 답변 여부 1)
+ * - 답변 등록, 질문 이월/신규 배정, 커플 해제 시 해당 월만 커밋 이후 무효화합니다.
+ * 무효화 시 세대 번호(ARCHIVE_GEN:{coupleId})를 올리고, 저장은 조회 시작 시점의 세대와 같을 때만 수행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArchiveMonthCache {
+
+    private static final String KEY_PREFIX = "ARCHIVE:";
+    private static final String GEN_PREFIX = "ARCHIVE_GEN:";
+    private static final byte FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 1 + Integer.BYTES;
+    private static final int ENTRY_BYTES = Long.BYTES + Integer.BYTES + 1;
+    private static final byte USER1_ANSWERED = 0b01;
+    private static final byte USER2_ANSWERED = 0b10;
+    // 커플 해제 시 무효화할 최대 개월 수 (시작일이 이보다 오래되었으면 나머지는 TTL로 만료)
+    private static final int MAX_EVICT_MONTHS = 120;
+    // 세대 번호가 일치할 때만 저장
+    private static final byte[] WRITE_IF_SAME_GEN_SCRIPT = (
+            "if (redis.call('GET', KEYS[2]) or '0') == ARGV[1] then " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1 end return 0")
+            .getBytes(StandardCharsets.UTF_8);
+    // 파이프라인 결과를 문자열로 변환하지 않고 byte[] 그대로 받기 위한 직렬화기
+    private static final RedisSerializer<byte[]> RAW = RedisSerializer.byteArray();
+
+    private final StringRedisTemplate redisTemplate;
+    private final AnswerRepository answerRepository;
+    private final CoupleRepository coupleRepository;
+
+    @Value("${archive-cache.closed-month-ttl-hours}")
+    private long closedMonthTtlHours;
+
+    @Value("${archive-cache.current-month-ttl-seconds}")
+    private long currentMonthTtlSeconds;
+
+    /**
+     * 커플의 월간 배정 기록 조회 (Redis 미스 시 DB에서 조회 후 저장)
+     */
+    public List<MonthEntry> get(Long coupleId, Long user1Id, Long user2Id, YearMonth month) {
+        byte[] key = key(coupleId, month);
+        byte[] genKey = genKey(coupleId);
+
+        String generation = null;
+        try {
+            List<Object> cached = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.stringCommands().get(key);
+                connection.stringCommands().get(genKey);
+                return null;
+            }, RAW);
+            byte[] payload = (byte[]) cached.get(0);
+            if (payload != null) {
+                List<MonthEntry> entries = decode(payload);
+                if (entries != null) return entries;
+            }
+            byte[] gen = (byte[]) cached.get(1);
+            generation = gen == null ? "0" : new String(gen, StandardCharsets.UTF_8);
+        } catch (DataAccessException e) {
+            log.warn("[ARCHIVE] 월간 캐시 조회 실패, DB에서 조회합니다. 사유: {}", e.getMessage());
+        }
+
+        List<MonthEntry> entries = answerRepository.findMonthlyArchiveSummary(
+                        coupleRepository.getReferenceById(coupleId), user1Id, user2Id, month.getYear(), month.getMonthValue())
+                .stream()
+                .map(MonthEntry::from)
+                .toList();
+        if (generation != null) {
+            write(key, genKey, generation, encode(entries), ttlMillis(month));
+        }
+        return entries;
+    }
+
+    /**
+     * 특정 월 무효화
+     */
+    public void evict(Long coupleId, YearMonth... months) {
+        evictAll(Map.of(coupleId, List.of(months)));
+    }
+
+    /**
+     * 시작 월부터 이번 달까지 모두 무효화 (커플 해제용)
+     */
+    public void evictSince(Long coupleId, LocalDate from) {
+        YearMonth current = YearMonth.now();
+        YearMonth month = YearMonth.from(from);
+        if (month.plusMonths(MAX_EVICT_MONTHS).isBefore(current)) {
+            month = current.minusMonths(MAX_EVICT_MONTHS);
+        }
+        List<YearMonth> months = new ArrayList<>();
+        for (; !month.isAfter(current); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        evictAll(Map.of(coupleId, months));
+    }
+
+    /**
+     * 여러 커플의 월 캐시 무효화 (트랜잭션 안이면 커밋 이후 수행)
+     */
+    public void evictAll(Map<Long, ? extends Collection<YearMonth>> monthsByCouple) {
+        if (monthsByCouple.isEmpty()) return;
+        Map<Long, List<YearMonth>> targets = new HashMap<>();
+        monthsByCouple.forEach((coupleId, months) -> targets.put(coupleId, List.copyOf(months)));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doEvict(targets);
+                }
+            });
+        } else {
+            doEvict(targets);
+        }
+    }
+
+    private void doEvict(Map<Long, List<YearMonth>> targets) {
+        long genTtlMillis = TimeUnit.HOURS.toMillis(closedMonthTtlHours);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                targets.forEach((coupleId, months) -> {
+                    byte[] genKey = genKey(coupleId);
+                    connection.stringCommands().incr(genKey);
+                    connection.keyCommands().pExpire(genKey, genTtlMillis);
+                    if (!months.isEmpty()) {
+                        connection.keyCommands().del(months.stream().map(m -> key(coupleId, m)).toArray(byte[][]::new));
+                    }
+                });
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("[ARCHIVE] 월간 캐시 무효화 실패: {}", e.getMessage());
+        }
+    }
+
+    private void write(byte[] key, byte[] genKey, String generation, byte[] payload, long ttlMillis) {
+        try {
+            redisTemplate.execute((RedisCallback<Object>) connection -> connection.scriptingCommands().eval(
+                    WRITE_IF_SAME_GEN_SCRIPT, ReturnType.INTEGER, 2,
+                    key, genKey,
+                    generation.getBytes(StandardCharsets.UTF_8),
+                    payload,
+                    String.valueOf(ttlMillis).getBytes(StandardCharsets.UTF_8)));
+        } catch (DataAccessException e) {
+            log.warn("[ARCHIVE] 월간 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 지난 달은 긴 TTL, 이번 달(또는 미래)은 짧은 TTL
+     */
+    private long ttlMillis(YearMonth month) {
+        return month.isBefore(YearMonth.now())
+                ? TimeUnit.HOURS.toMillis(closedMonthTtlHours)
+                : TimeUnit.SECONDS.toMillis(currentMonthTtlSeconds);
+    }
+
+    /**
+     * [버전 1][항목 수 4] + 항목별 [질문 ID 8][날짜(epoch day) 4][답변 여부 비트 1]
+     */
+    static byte[] encode(List<MonthEntry> entries) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + entries.size() * ENTRY_BYTES);
+        buffer.put(FORMAT_VERSION).putInt(entries.size());
+        for (MonthEntry entry : entries) {
+            byte flags = 0;
+            if (entry.user1Answered()) flags |= USER1_ANSWERED;
+            if (entry.user2Answered()) flags |= USER2_ANSWERED;
+            buffer.putLong(entry.questionId()).putInt((int) entry.date().toEpochDay()).put(flags);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * @return 형식이 맞지 않으면 null (DB에서 다시 조회)
+     */
+    static List<MonthEntry> decode(byte[] payload) {
+        if (payload.length < HEADER_BYTES) return null;
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        if (buffer.get() != FORMAT_VERSION) return null;
+        int count = buffer.getInt();
+        if (payload.length != HEADER_BYTES + count * ENTRY_BYTES) return null;
+
+        List<MonthEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long questionId = buffer.getLong();
+            LocalDate date = LocalDate.ofEpochDay(buffer.getInt());
+            byte flags = buffer.get();
+            entries.add(new MonthEntry(questionId, date,
+                    (flags & USER1_ANSWERED) != 0, (flags & USER2_ANSWERED) != 0));
+        }
+        return entries;
+    }
+
+    private static byte[] key(Long coupleId, YearMonth month) {
+        return (KEY_PREFIX + coupleId + ":" + month.getYear() + String.format("%02d", month.getMonthValue()))
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] genKey(Long coupleId) {
+        return (GEN_PREFIX + coupleId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 월간 배정 기록 한 건 (커플 관점)
+     */
+    public record MonthEntry(long questionId, LocalDate date, boolean user1Answered, boolean user2Answered) {
+
+        // findMonthlyArchiveSummary를 (user1, user2) 순서로 호출한 결과 변환
+        static MonthEntry from(ArchiveSummaryResponse row) {
+            return new MonthEntry(row.getQuestionId(), row.getDate(),
+                    Boolean.TRUE.equals(row.getMyAnswered()), Boolean.TRUE.equals(row.getPartnerAnswered()));
+        }
+    }
+}
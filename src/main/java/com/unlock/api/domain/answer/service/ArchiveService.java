@@ -1,24 +1,40 @@
 package com.unlock.api.domain.answer.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.unlock.api.common.exception.BusinessException;
 import com.unlock.api.common.exception.ErrorCode;
+import com.unlock.api.common.security.auth.AuthContext;
 import com.unlock.api.domain.answer.dto.AnswerDto.MyAnswerDto;
 import com.unlock.api.domain.answer.dto.AnswerDto.PartnerAnswerDto;
 import com.unlock.api.domain.answer.dto.ArchiveDto.ArchiveDetailResponse;
+import com.unlock.api.domain.answer.dto.ArchiveDto.ArchiveDetailRow;
 import com.unlock.api.domain.answer.dto.ArchiveDto.ArchiveSummaryResponse;
-import com.unlock.api.domain.answer.entity.Answer;
+import com.unlock.api.domain.answer.dto.ArchiveDto.TimelineItem;
+import com.unlock.api.domain.answer.dto.ArchiveDto.TimelineResponse;
+import com.unlock.api.domain.answer.dto.ArchiveDto.TimelineRow;
 import com.unlock.api.domain.answer.repository.AnswerRepository;
-import com.unlock.api.domain.answer.repository.AnswerRevealRepository;
-import com.unlock.api.domain.couple.entity.Couple;
-import com.unlock.api.domain.question.entity.CoupleQuestion;
-import com.unlock.api.domain.question.repository.CoupleQuestionRepository;
-import com.unlock.api.domain.user.entity.User;
-import com.unlock.api.domain.user.repository.UserRepository;
+import com.unlock.api.domain.couple.repository.CoupleRepository;
+import com.unlock.api.domain.question.service.QuestionPool;
+import com.unlock.api.domain.question.service.QuestionPool.PooledQuestion;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * 아카이브(기록장) 조회 비즈니스 로직 서비스
@@ -28,87 +44,230 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class ArchiveService {
 
+    // 기간 조회 최대 개월 수
+    private static final int MAX_RANGE_MONTHS = 24;
+    // 스트리밍 응답을 내보내는 단위 (행 수)
+    private static final int STREAM_FLUSH_ROWS = 31;
+    // 타임라인 한 페이지 최대 크기
+    private static final int MAX_TIMELINE_SIZE = 50;
+
     private final AnswerRepository answerRepository;
-    private final AnswerRevealRepository answerRevealRepository;
-    private final CoupleQuestionRepository coupleQuestionRepository;
-    private final UserRepository userRepository;
+    private final QuestionPool questionPool;
+    private final ArchiveMonthCache archiveMonthCache;
+    private final CoupleRepository coupleRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final RevealResolver revealResolver;
 
     /**
      * 월별 아카이브 요약 목록 조회 (캘린더용)
-     * Querydsl DTO Projections를 사용하여 단 한 번의 조인 쿼리로 결과물 완성.
+     * 커플 정보는 인증 컨텍스트에서, 월간 기록은 월간 아카이브 캐시에서 가져오므로 캐시 적중 시 DB를 조회하지 않습니다.
+     * 캐시 미스 시에는 Querydsl DTO Projections 단일 조인 쿼리로 조회합니다.
      */
-    public List<ArchiveSummaryResponse> getMonthlyArchive(Long userId, int year, int month) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    public List<ArchiveSummaryResponse> getMonthlyArchive(AuthContext context, int year, int month) {
+        if (month < 1 || month > 12) throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        requireCouple(context);
 
-        Couple couple = user.getCouple();
-        if (couple == null) throw new BusinessException(ErrorCode.COUPLE_NOT_FOUND);
+        // 월간 캐시는 커플 관점(user1, user2 순서)으로 저장
+        boolean isUser1 = context.user1();
+        Long user1Id = isUser1 ? context.userId() : context.partnerId();
+        Long user2Id = isUser1 ? context.partnerId() : context.userId();
 
-        User partner = couple.getUser1().getId().equals(userId) ? couple.getUser2() : couple.getUser1();
+        return archiveMonthCache.get(context.coupleId(), user1Id, user2Id, YearMonth.of(year, month)).stream()
+                .map(entry -> ArchiveSummaryResponse.builder()
+                        .questionId(entry.questionId())
+                        .questionContent(questionPool.find(entry.questionId()).map(PooledQuestion::getContent).orElse(null))
+                        .date(entry.date())
+                        .myAnswered(isUser1 ? entry.user1Answered() : entry.user2Answered())
+                        .partnerAnswered(isUser1 ? entry.user2Answered() : entry.user1Answered())
+                        .build())
+                .toList();
+    }
 
-        // [고도화]: 자바 루프 없이 DB에서 DTO 리스트를 한꺼번에 뽑아옵니다.
-        return answerRepository.findMonthlyArchiveSummary(couple, userId, partner.getId(), year, month);
+    /**
+     * 여러 달 아카이브 요약 스트리밍 조회 (캘린더 스크롤용)
+     * 커플 확인과 기간 검증은 호출 시점에 수행하고, 실제 조회는 응답을 쓰는 시점에 단일 기간 쿼리를 커서로 읽으며
+     * 한 줄에 하나씩 NDJSON으로 내보냅니다. (결과 전체를 메모리에 올리지 않음)
+     * @param from 시작 월 (yyyy-MM, 포함)
+     * @param to   종료 월 (yyyy-MM, 포함)
+     */
+    public StreamingResponseBody streamArchiveRange(AuthContext context, String from, String to) {
+        YearMonth fromMonth = parseMonth(from);
+        YearMonth toMonth = parseMonth(to);
+        if (fromMonth.isAfter(toMonth) || fromMonth.plusMonths(MAX_RANGE_MONTHS).isBefore(toMonth.plusMonths(1))) {
+            throw new BusinessException("조회 기간은 최대 " + MAX_RANGE_MONTHS + "개월입니다.", ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        requireCouple(context);
+        Long userId = context.userId();
+        Long coupleId = context.coupleId();
+        Long partnerId = context.partnerId();
+
+        return out -> {
+            TransactionTemplate tx = new TransactionTemplate(transactionManager);
+            tx.setReadOnly(true);
+            tx.executeWithoutResult(status -> {
+                try (Stream<ArchiveSummaryResponse> rows = answerRepository.streamArchiveSummary(
+                        coupleRepository.getReferenceById(coupleId), userId, partnerId,
+                        fromMonth.atDay(1), toMonth.plusMonths(1).atDay(1))) {
+                    int written = 0;
+                    for (ArchiveSummaryResponse row : (Iterable<ArchiveSummaryResponse>) rows::iterator) {
+                        out.write(objectMapper.writeValueAsBytes(row));
+                        out.write('\n');
+                        if (++written % STREAM_FLUSH_ROWS == 0) out.flush();
+                    }
+                    out.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        };
+    }
+
+    /**
+     * 아카이브 타임라인 조회 (최신순, 커서 기반)
+     * 커서는 이전 페이지 마지막 기록의 (배정 날짜, ID)를 감싼 불투명 문자열이며,
+     * OFFSET 없이 키셋 조건으로 이어서 읽으므로 페이지 깊이와 무관하게 비용이 일정합니다.
+     * 질문 내용/카테고리는 질문 풀 캐시에서, 답변 여부는 단일 조인 쿼리에서, 열람 여부는 RevealResolver로 일괄 판별합니다.
+     */
+    public TimelineResponse getTimeline(AuthContext context, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_TIMELINE_SIZE);
+        TimelineCursor after = cursor == null || cursor.isBlank() ? null : TimelineCursor.decode(cursor);
+
+        requireCouple(context);
+        Long userId = context.userId();
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<TimelineRow> rows = answerRepository.findTimeline(coupleRepository.getReferenceById(context.coupleId()),
+                userId, context.partnerId(),
+                after == null ? null : after.date(),
+                after == null ? null : after.id(),
+                pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) rows = rows.subList(0, pageSize);
+
+        // 페이지 내 파트너 답변들의 열람 여부를 한 번에 판별
+        Set<Long> revealed = revealResolver.resolveRevealed(userId, rows.stream()
+                .map(TimelineRow::getPartnerAnswerId)
+                .filter(Objects::nonNull)
+                .toList());
+
+        List<TimelineItem> items = rows.stream()
+                .map(row -> {
+                    boolean myAnswered = Boolean.TRUE.equals(row.getMyAnswered());
+                    boolean partnerAnswered = row.getPartnerAnswerId() != null;
+                    Optional<PooledQuestion> question = questionPool.find(row.getQuestionId());
+                    return TimelineItem.builder()
+                            .questionId(row.getQuestionId())
+                            .questionContent(question.map(PooledQuestion::getContent).orElse(null))
+                            .category(question.map(PooledQuestion::getCategory).orElse(null))
+                            .date(row.getAssignedDate())
+                            .myAnswered(myAnswered)
+                            .partnerAnswered(partnerAnswered)
+                            .isRevealed(myAnswered && partnerAnswered
+                                    && (context.subscribed() || revealed.contains(row.getPartnerAnswerId())))
+                            .build();
+                })
+                .toList();
+
+        TimelineRow last = rows.isEmpty() ? null : rows.get(rows.size() - 1);
+        return TimelineResponse.builder()
+                .items(items)
+                .nextCursor(hasNext ? new TimelineCursor(last.getAssignedDate(), last.getCoupleQuestionId()).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private void requireCouple(AuthContext context) {
+        if (!context.hasCouple()) throw new BusinessException(ErrorCode.COUPLE_NOT_FOUND);
+    }
+
+    private YearMonth parseMonth(String value) {
+        try {
+            return YearMonth.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException("월은 yyyy-MM 형식이어야 합니다.", ErrorCode.INVALID_INPUT_VALUE);
+        }
     }
 
     /**
      * 아카이브 상세 조회
+     * 배정 기록, 두 사람의 답변, 열람 여부를 (couple_id, question_id) 기준 단일 쿼리로 조회하며,
+     * 질문 내용과 카테고리는 질문 풀 캐시에서 가져옵니다.
      */
     public ArchiveDetailResponse getArchiveDetail(Long userId, Long questionId) {
-        User user = userRepository.findById(userId)
+        ArchiveDetailRow row = answerRepository.findArchiveDetailRow(userId, questionId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        Couple couple = user.getCouple();
-        if (couple == null) throw new BusinessException(ErrorCode.COUPLE_NOT_FOUND);
+        if (row.getCoupleId() == null) throw new BusinessException(ErrorCode.COUPLE_NOT_FOUND);
 
         // 1. 해당 질문이 우리 커플에게 배정된 이력이 있는지 검증
-        List<CoupleQuestion> history = coupleQuestionRepository.findAllByCoupleOrderByAssignedDateDesc(couple);
-        CoupleQuestion targetCq = history.stream()
-                .filter(cq -> cq.getQuestion().getId().equals(questionId))
-                .findFirst()
-                .orElseThrow(() -> new BusinessException(ErrorCode.QUESTION_NOT_FOUND));
+        if (row.getAssignedDate() == null) throw new BusinessException(ErrorCode.QUESTION_NOT_FOUND);
 
-        // 2. 답변 데이터 조회
-        Answer myAnswer = answerRepository.findByUserAndQuestion(user, targetCq.getQuestion()).orElse(null);
-        User partner = couple.getUser1().getId().equals(userId) ? couple.getUser2() : couple.getUser1();
-        Answer partnerAnswer = answerRepository.findByUserAndQuestion(partner, targetCq.getQuestion()).orElse(null);
+        // 2. 열람 권한 체크
+        boolean hasMyAnswer = row.getMyAnswerId() != null;
+        boolean hasPartnerAnswer = row.getPartnerAnswerId() != null;
+        boolean isRevealed = hasMyAnswer && hasPartnerAnswer
+                && (Boolean.TRUE.equals(row.getSubscribed()) || Boolean.TRUE.equals(row.getRevealed()));
 
-        // 3. 열람 권한 체크
-        boolean isRevealed = false;
-        if (myAnswer != null && partnerAnswer != null) {
-            isRevealed = couple.isSubscribed() || answerRevealRepository.existsByUserAndAnswer(user, partnerAnswer);
-        }
+        PooledQuestion question = questionPool.find(questionId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.QUESTION_NOT_FOUND));
 
         return ArchiveDetailResponse.builder()
-                .questionContent(targetCq.getQuestion().getContent())
-                .category(targetCq.getQuestion().getCategory())
-                .date(targetCq.getAssignedDate())
-                .myAnswer(myAnswer == null ? null : convertToMyAnswerDto(myAnswer))
-                .partnerAnswer(convertToPartnerAnswerDto(partner, partnerAnswer, isRevealed))
+                .questionContent(question.getContent())
+                .category(question.getCategory())
+                .date(row.getAssignedDate())
+                .myAnswer(hasMyAnswer ? convertToMyAnswerDto(row) : null)
+                .partnerAnswer(convertToPartnerAnswerDto(row, isRevealed))
                 .build();
     }
 
-    private MyAnswerDto convertToMyAnswerDto(Answer answer) {
+    private MyAnswerDto convertToMyAnswerDto(ArchiveDetailRow row) {
         return MyAnswerDto.builder()
-                .id(answer.getId())
-                .content(answer.getContent())
-                .createdAt(answer.getCreatedAt())
+                .id(row.getMyAnswerId())
+                .content(row.getMyAnswerContent().decrypt())
+                .createdAt(row.getMyAnswerCreatedAt())
                 .build();
     }
 
-    private PartnerAnswerDto convertToPartnerAnswerDto(User partner, Answer answer, boolean isRevealed) {
-        if (answer == null) {
+    private PartnerAnswerDto convertToPartnerAnswerDto(ArchiveDetailRow row, boolean isRevealed) {
+        if (row.getPartnerAnswerId() == null) {
             return PartnerAnswerDto.builder()
-                    .nickname(partner.getNickname())
+                    .nickname(row.getPartnerNickname())
                     .isWritten(false)
                     .build();
         }
         return PartnerAnswerDto.builder()
-                .id(answer.getId())
-                .nickname(partner.getNickname())
+                .id(row.getPartnerAnswerId())
+                .nickname(row.getPartnerNickname())
                 .isWritten(true)
                 .isRevealed(isRevealed)
-                .content(isRevealed ? answer.getContent() : "LOCKED")
-                .createdAt(answer.getCreatedAt())
+                .content(isRevealed ? row.getPartnerAnswerContent().decrypt() : "LOCKED") // 잠긴 답변은 복호화하지 않음
+                .createdAt(row.getPartnerAnswerCreatedAt())
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 타임라인 커서 (이전 페이지 마지막 기록의 배정 날짜와 ID)
+     * 외부에는 "v1:{epochDay}:{id}"를 URL-safe Base64로 감싼 문자열로만 노출합니다.
+     */
+    private record TimelineCursor(LocalDate date, Long id) {
+
+        private static final String VERSION = "v1";
+
+        String encode() {
+            String raw = VERSION + ":" + date.toEpochDay() + ":" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static TimelineCursor decode(String cursor) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+                if (parts.length != 3 || !VERSION.equals(parts[0])) throw new IllegalArgumentException();
+                return new TimelineCursor(LocalDate.ofEpochDay(Long.parseLong(parts[1])), Long.parseLong(parts[2]));
+            } catch (RuntimeException e) {
+                throw new BusinessException("유효하지 않은 커서입니다.", ErrorCode.INVALID_INPUT_VALUE);
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.unlock.api.domain.answer.service;
+
+import com.unlock.api.common.cache.LocalLruCache;
+import com.unlock.api.domain.answer.repository.AnswerRevealRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 답변 열람 여부 일괄 판별기
+ * 유저가 열람한 답변 ID 전체를 쿼리 한 번으로 읽어 정렬된 long 배열(ID당 8바이트)로 로컬에 보관하고,
+ * 목록 화면의 여러 답변에 대한 열람 여부를 추가 쿼리 없이 이진 탐색으로 판별합니다.
+ * - 답변 ID는 전체 유저 공용 시퀀스라 비트맵으로는 희소해지므로, 정렬 배열로 압축 보관합니다.
+ * - 열람 해제/커플 해제/탈퇴 시 커밋 이후 무효화합니다. 다른 노드의 캐시는 ttl 이내에 자연 만료됩니다.
+ * - 최대 유저 수를 넘으면 가장 오래 조회되지 않은 유저부터 내보냅니다.
+ * - 무효화가 일어나면 그 이전에 DB를 읽기 시작한 로딩 결과는 저장하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RevealResolver {
+
+    private static final int LOCAL_MAX_USERS = 10_000;
+
+    private final AnswerRevealRepository answerRevealRepository;
+
+    @Value("${reveal-cache.ttl-ms}")
+    private long ttlMs;
+
+    private final LocalLruCache<Long, long[]> cache = new LocalLruCache<>(LOCAL_MAX_USERS);
+    // 무효화 횟수 (로딩 도중 무효화가 있었는지 확인용)
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * 특정 유저가 열람한 답변 ID만 골라 반환
+     */
+    public Set<Long> resolveRevealed(Long userId, Collection<Long> answerIds) {
+        if (answerIds.isEmpty()) return Set.of();
+        long[] revealed = revealedIds(userId);
+        Set<Long> result = new HashSet<>();
+        for (Long answerId : answerIds) {
+            if (answerId != null && Arrays.binarySearch(revealed, answerId) >= 0) result.add(answerId);
+        }
+        return result;
+    }
+
+    /**
+     * 유저들의 열람 캐시 무효화 (트랜잭션 안이면 커밋 이후 수행)
+     */
+    public void evict(Long... userIds) {
+        List<Long> targets = List.of(userIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doEvict(targets);
+                }
+            });
+        } else {
+            doEvict(targets);
+        }
+    }
+
+    private void doEvict(List<Long> userIds) {
+        evictions.incrementAndGet();
+        userIds.forEach(cache::remove);
+    }
+
+    private long[] revealedIds(Long userId) {
+        long now = System.currentTimeMillis();
+        long[] cached = cache.get(userId);
+        if (cached != null) return cached;
+
+        long evictionsBefore = evictions.get();
+        long[] loaded = answerRevealRepository.findAnswerIdsByUserId(userId).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+        if (evictions.get() == evictionsBefore) {
+            cache.put(userId, loaded, now + ttlMs);
+        }
+        return loaded;
+    }
+}
@@ -108,14 +108,15 @@ public class AuthController {
         return ApiCommonResponse.success("토큰 재발급 성공", loginDto.toTokenResponse());
     }
 
-    @Operation(summary = "로그아웃", description = "로그아웃 처리를 수행합니다. FCM 토큰을 함께 보내면 해당 기기의 알림이 해제됩니다.")
+    @Operation(summary = "로그아웃", description = "현재 기기의 로그아웃 처리를 수행합니다. (Refresh Token 쿠키가 없으면 모든 기기) FCM 토큰을 함께 보내면 해당 기기의 알림이 해제됩니다.")
     @ApiResponse(responseCode = "200", description = "로그아웃 성공")
     @PostMapping("/logout")
     public ApiCommonResponse<Void> logout(
             @Parameter(hidden = true) @CurrentUser Long userId,
+            @Parameter(hidden = true) @CookieValue(value = REFRESH_TOKEN_COOKIE_NAME, required = false) String refreshToken,
             @RequestBody(required = false) LogoutRequest request,
             HttpServletResponse response) {
-        authService.logout(userId, request != null ? request.getFcmToken() : null);
+        authService.logout(userId, refreshToken, request != null ? request.getFcmToken() : null);
         deleteRefreshTokenCookie(response);
         return ApiCommonResponse.success("로그아웃 성공", null);
     }
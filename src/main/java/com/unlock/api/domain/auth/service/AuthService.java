@@ -2,7 +2,10 @@ package com.unlock.api.domain.auth.service;
 
 import com.unlock.api.common.exception.BusinessException;
 import com.unlock.api.common.exception.ErrorCode;
+import com.unlock.api.common.security.auth.AuthContext;
+import com.unlock.api.common.security.auth.AuthContextCache;
 import com.unlock.api.common.security.jwt.JwtTokenProvider;
+import com.unlock.api.common.security.jwt.JwtTokenProvider.RefreshTokenClaims;
 import com.unlock.api.domain.auth.dto.AuthDto.LoginRequest;
 import com.unlock.api.domain.auth.dto.AuthDto.PasswordResetRequest;
 import com.unlock.api.domain.auth.dto.AuthDto.SignupRequest;
@@ -18,6 +21,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -36,9 +40,11 @@ public class AuthService {
     private final UserFcmTokenRepository fcmTokenRepository;
     private final JwtTokenProvider jwtTokenProvider;
     private final PasswordEncoder passwordEncoder;
-    private final RedisService redisService;
+    private final RefreshTokenStore refreshTokenStore;
+    private final AuthContextCache authContextCache;
     private final EmailService emailService; // 추가
     private final List<SocialAuthService> socialAuthServices;
+    private final FcmTokenCache fcmTokenCache;
 
     /**
      * 이메일 회원가입
@@ -139,49 +145,87 @@ public class AuthService {
     }
 
     /**
-     * JWT 토큰 재발급
+     * JWT 토큰 재발급 (Refresh Token Rotation)
+     * 같은 기기(계열) 안에서 Refresh Token을 교체하며, 확인과 교체는 Redis 한 번의 왕복으로 처리합니다.
+     * 유저 정보는 인증 컨텍스트 캐시에서 가져오므로 캐시 적중 시 DB를 거치지 않습니다. (트랜잭션 불필요)
+     * - 직전 토큰으로 동시에 재시도한 경우: REFRESH_TOKEN_ROTATED (계열 유지, 최신 토큰으로 재시도)
+     * - 이미 교체된 토큰을 재사용한 경우: 해당 기기 계열 전체 폐기 후 INVALID_TOKEN
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginDto reissue(String refreshToken) {
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
+        RefreshTokenClaims claims = jwtTokenProvider.verifyRefreshToken(refreshToken);
+        if (claims == null) {
             throw new BusinessException(ErrorCode.INVALID_TOKEN);
         }
 
-        Long userId = jwtTokenProvider.getUserId(refreshToken);
-        String savedRefreshToken = redisService.getRefreshToken(userId);
-
-        if (savedRefreshToken == null || !savedRefreshToken.equals(refreshToken)) {
-            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+        Long userId = claims.userId();
+        String familyId;
+        String tokenId = UUID.randomUUID().toString();
+        if (claims.hasFamily()) {
+            familyId = claims.familyId();
+            switch (refreshTokenStore.rotate(userId, familyId, claims.tokenId(), tokenId)) {
+                case ROTATED -> { }
+                case ALREADY_ROTATED -> throw new BusinessException(ErrorCode.REFRESH_TOKEN_ROTATED);
+                default -> throw new BusinessException(ErrorCode.INVALID_TOKEN);
+            }
+        } else {
+            // 계열 도입 이전에 발급된 토큰 (RT:{userId}): 일치하면 한 번만 새 계열로 전환
+            if (!refreshTokenStore.consumeLegacy(userId, refreshToken)) {
+                throw new BusinessException(ErrorCode.INVALID_TOKEN);
+            }
+            familyId = UUID.randomUUID().toString();
+            refreshTokenStore.issue(userId, familyId, tokenId);
         }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-        return createTokenResponse(user);
+        AuthContext context = authContextCache.get(userId);
+        return LoginDto.builder()
+                .accessToken(jwtTokenProvider.createAccessToken(userId))
+                .refreshToken(jwtTokenProvider.createRefreshToken(userId, familyId, tokenId))
+                .nickname(context.nickname())
+                .isCoupleConnected(context.hasCouple())
+                .build();
     }
 
     /**
      * 로그아웃 및 특정 기기 FCM 토큰 해제
+     * Refresh Token이 함께 오면 해당 기기(계열)만, 없으면 모든 기기의 Refresh Token을 폐기합니다.
      */
-    public void logout(Long userId, String fcmToken) {
+    public void logout(Long userId, String refreshToken, String fcmToken) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        redisService.deleteRefreshToken(userId);
+        RefreshTokenClaims claims = refreshToken == null ? null : jwtTokenProvider.verifyRefreshToken(refreshToken);
+        if (claims != null && claims.hasFamily() && claims.userId().equals(userId)) {
+            refreshTokenStore.revoke(userId, claims.familyId());
+        } else {
+            refreshTokenStore.revokeAll(userId);
+        }
 
         if (fcmToken != null) {
             fcmTokenRepository.deleteByUserAndToken(user, fcmToken);
+            fcmTokenCache.evict(userId);
         }
     }
 
+    /**
+     * 모든 기기의 Refresh Token 폐기 (회원 탈퇴 등)
+     */
+    public void revokeAllSessions(Long userId) {
+        refreshTokenStore.revokeAll(userId);
+    }
+
     private void handleFcmToken(User user, String fcmToken) {
         fcmTokenRepository.findByToken(fcmToken)
                 .ifPresentOrElse(
                         UserFcmToken::updateLastUsed,
-                        () -> fcmTokenRepository.save(UserFcmToken.builder()
-                                .user(user)
-                                .token(fcmToken)
-                                .lastUsedAt(LocalDateTime.now())
-                                .build())
+                        () -> {
+                            fcmTokenRepository.save(UserFcmToken.builder()
+                                    .user(user)
+                                    .token(fcmToken)
+                                    .lastUsedAt(LocalDateTime.now())
+                                    .build());
+                            fcmTokenCache.evict(user.getId());
+                        }
                 );
     }
 
@@ -202,11 +246,16 @@ public class AuthService {
         }
     }
 
+    /**
+     * 로그인 시 토큰 발급 (기기별 새 Refresh Token 계열 생성)
+     */
     private LoginDto createTokenResponse(User user) {
+        String familyId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
         String accessToken = jwtTokenProvider.createAccessToken(user.getId());
-        String refreshToken = jwtTokenProvider.createRefreshToken(user.getId());
+        String refreshToken = jwtTokenProvider.createRefreshToken(user.getId(), familyId, tokenId);
 
-        redisService.saveRefreshToken(user.getId(), refreshToken, jwtTokenProvider.getRefreshTokenValidityInMilliseconds());
+        refreshTokenStore.issue(user.getId(), familyId, tokenId);
 
         return LoginDto.builder()
                 .accessToken(accessToken)
@@ -0,0 +1,153 @@
+package com.unlock.api.domain.auth.service;
+
+import com.google.api.core.ApiFuture;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.SendResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FCM 메시지 묶음 발송기 (Micro-batching)
+ * 여러 유저에게 가는 메시지를 짧은 시간(linger) 동안 모아, 최대 max-size(FCM 한도 500)개씩 sendEachAsync 한 번으로 보냅니다.
+ * 메시지마다 CompletableFuture를 돌려주며, 배치 응답의 순서대로 각 토큰의 SendResponse를 되돌려 줍니다.
+ * 동시에 진행 중인 배치 수는 max-in-flight로 제한하고, 대기 버퍼도 크기를 제한하여
+ * 버퍼가 가득 차면 submit을 호출한 알림 워커가 대기하도록(Backpressure) 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FcmBatchSender {
+
+    private static final int FCM_BATCH_LIMIT = 500;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${fcm.batch.max-size}")
+    private int maxBatchSize;
+
+    @Value("${fcm.batch.linger-ms}")
+    private long lingerMs;
+
+    @Value("${fcm.batch.max-in-flight}")
+    private int maxInFlight;
+
+    private LinkedBlockingQueue<PendingMessage> pending;
+    private Semaphore inFlight;
+    private Thread flusher;
+    private volatile boolean running = true;
+    private DistributionSummary batchSizeSummary;
+
+    @PostConstruct
+    void start() {
+        maxBatchSize = Math.min(maxBatchSize, FCM_BATCH_LIMIT);
+        inFlight = new Semaphore(maxInFlight);
+        pending = new LinkedBlockingQueue<>(maxBatchSize * (maxInFlight + 1));
+        batchSizeSummary = DistributionSummary.builder("unlock.fcm.batch.size")
+                .description("sendEach 한 번에 묶여 나간 메시지 수")
+                .register(meterRegistry);
+
+        flusher = new Thread(this::runFlusher, "fcm-batch-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * 메시지 묶음 발송 요청
+     * @return 입력 순서와 동일한 순서의 메시지별 발송 결과
+     */
+    public List<CompletableFuture<SendResponse>> submit(List<Message> messages) {
+        List<CompletableFuture<SendResponse>> futures = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            CompletableFuture<SendResponse> future = new CompletableFuture<>();
+            futures.add(future);
+            try {
+                pending.put(new PendingMessage(message, future));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.completeExceptionally(e);
+            }
+        }
+        return futures;
+    }
+
+    private void runFlusher() {
+        while (running || !pending.isEmpty()) {
+            try {
+                PendingMessage first = pending.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+
+                // 첫 메시지 도착 후 linger 동안, 또는 배치가 가득 찰 때까지 모읍니다.
+                List<PendingMessage> batch = new ArrayList<>(maxBatchSize);
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMs);
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) break;
+                    PendingMessage next = pending.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+                pending.drainTo(batch, maxBatchSize - batch.size());
+
+                inFlight.acquire();
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void send(List<PendingMessage> batch) {
+        batchSizeSummary.record(batch.size());
+        List<Message> messages = batch.stream().map(PendingMessage::message).toList();
+
+        ApiFuture<BatchResponse> future;
+        try {
+            future = FirebaseMessaging.getInstance().sendEachAsync(messages);
+        } catch (Exception e) {
+            inFlight.release();
+            batch.forEach(p -> p.future().completeExceptionally(e));
+            return;
+        }
+
+        future.addListener(() -> {
+            try {
+                List<SendResponse> responses = future.get().getResponses();
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).future().complete(responses.get(i));
+                }
+                log.debug("[FCM] 배치 발송 완료: {}건", batch.size());
+            } catch (Exception e) {
+                log.error("[FCM] 배치 발송 에러 ({}건): {}", batch.size(), e.getMessage());
+                batch.forEach(p -> p.future().completeExceptionally(e));
+            } finally {
+                inFlight.release();
+            }
+        }, Runnable::run);
+    }
+
+    private record PendingMessage(Message message, CompletableFuture<SendResponse> future) {
+    }
+}
@@ -1,52 +1,158 @@
 package com.unlock.api.domain.auth.service;
 
-import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
 import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
 import com.unlock.api.domain.auth.entity.NotificationType;
 import com.unlock.api.domain.user.entity.User;
-import com.unlock.api.domain.user.entity.UserFcmToken;
-import com.unlock.api.domain.user.repository.UserFcmTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * FCM 푸시 알림 발송 서비스
+ * 호출한 요청/스케줄러 스레드에서는 알림을 바로 보내지 않고, 트랜잭션 커밋 이후 제한된 크기의 큐에 넣기만 합니다.
+ * 실제 토큰 조회와 Firebase 호출은 전용 워커 스레드들이 큐에서 꺼내 처리하므로, 요청 지연이 FCM 응답 시간과 분리됩니다.
+ * 큐가 가득 찼을 때의 처리는 알림 출처(Origin)별로 다릅니다.
+ * - REQUEST(API 요청 경로): offer-timeout 동안만 대기한 뒤, 그래도 자리가 없으면 해당 알림을 버리고 집계합니다. (요청 지연 방지)
+ * - SCHEDULER(정기 발송): 자리가 날 때까지 대기하며 버리지 않습니다. 대기는 디스패처 샤드 처리 속도를 늦추는 Backpressure로 작동하며,
+ *   대기 시간은 unlock.notification.enqueue.wait로 기록합니다. 서비스 종료 중일 때만 버립니다.
+ * - 트랜잭션이 롤백되면 알림은 큐에 들어가지 않습니다.
+ * - 워커는 Firebase 응답을 기다리지 않고 FcmBatchSender에 메시지를 넘기므로, 여러 유저의 메시지가 한 배치로 묶여 발송됩니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FcmService {
 
-    private final UserFcmTokenRepository fcmTokenRepository;
+    private final FcmTokenCache fcmTokenCache;
+    private final FcmBatchSender fcmBatchSender;
+    private final FcmTokenPruner fcmTokenPruner;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notification.queue.capacity}")
+    private int queueCapacity;
+
+    @Value("${notification.queue.workers}")
+    private int workerCount;
+
+    @Value("${notification.queue.offer-timeout-ms}")
+    private long offerTimeoutMs;
+
+    private BlockingQueue<PushNotification> queue;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running = true;
+
+    private Counter enqueuedCounter;
+    private Counter requestDroppedCounter;
+    private Counter schedulerDroppedCounter;
+    private Timer enqueueWaitTimer;
+    private Counter failedCounter;
+    private Timer sendTimer;
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("unlock.notification.queue.depth", queue, BlockingQueue::size)
+                .description("발송 대기 중인 알림 수")
+                .register(meterRegistry);
+        enqueuedCounter = Counter.builder("unlock.notification.enqueued").register(meterRegistry);
+        requestDroppedCounter = Counter.builder("unlock.notification.dropped")
+                .description("큐 포화로 버려진 알림 수")
+                .tag("origin", "request")
+                .register(meterRegistry);
+        schedulerDroppedCounter = Counter.builder("unlock.notification.dropped")
+                .description("큐 포화로 버려진 알림 수")
+                .tag("origin", "scheduler")
+                .register(meterRegistry);
+        enqueueWaitTimer = Timer.builder("unlock.notification.enqueue.wait")
+                .description("스케줄러 알림이 큐에 자리가 날 때까지 대기한 시간")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("unlock.notification.failed").register(meterRegistry);
+        sendTimer = Timer.builder("unlock.notification.send")
+                .description("유저 한 명에 대한 토큰 조회부터 FCM 발송 결과 수신까지 소요 시간")
+                .register(meterRegistry);
+
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::runWorker, "fcm-worker-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        log.info("[FCM] 알림 워커 {}개 시작 (큐 크기: {})", workerCount, queueCapacity);
+    }
+
+    /**
+     * 남은 알림을 처리할 수 있도록 워커 종료를 잠시 기다립니다.
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        if (!queue.isEmpty()) {
+            log.warn("[FCM] 종료 시점에 발송하지 못한 알림 {}건", queue.size());
+        }
+    }
 
     /**
      * 특정 유저의 모든 등록된 기기에 푸시 알림을 발송합니다. (타입 포함)
+     * 트랜잭션 안에서 호출되면 커밋 이후에, 트랜잭션 밖이면 즉시 큐에 등록합니다.
      */
-    @Async
     public void sendToUser(User user, String title, String body, NotificationType type) {
-        List<String> tokens = fcmTokenRepository.findAllByUser(user).stream()
-                .map(UserFcmToken::getToken)
-                .collect(Collectors.toList());
+        enqueueAfterCommit(new PushNotification(user.getId(), null, title, body, type, Origin.REQUEST));
+    }
 
-        if (tokens.isEmpty()) {
-            return;
-        }
+    /**
+     * 토큰 목록을 미리 조회해 둔 유저에게 푸시 알림을 발송합니다. (스케줄러 샤드 단위 일괄 조회용)
+     * 토큰이 없는 유저는 큐에 넣지 않으며, 큐가 가득 차도 버리지 않고 자리가 날 때까지 대기합니다.
+     */
+    public void sendToUser(User user, List<String> tokens, String title, String body, NotificationType type) {
+        if (tokens.isEmpty()) return;
+        enqueueAfterCommit(new PushNotification(user.getId(), tokens, title, body, type, Origin.SCHEDULER));
+    }
 
-        sendMessages(tokens, title, body, type);
+    private void enqueueAfterCommit(PushNotification notification) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(notification);
+                }
+            });
+        } else {
+            enqueue(notification);
+        }
     }
 
     /**
-     * 여러 기기에 푸시 알림을 발송합니다. (타입 정보 포함)
+     * 여러 기기에 푸시 알림을 발송합니다. (타입 정보 포함, 워커 스레드에서 호출)
+     * 메시지는 배치 발송기로 넘어가 다른 유저의 메시지와 함께 묶여 나가며, 토큰별 결과가 모두 도착하면 완료됩니다.
+     * @return 더 이상 유효하지 않은(UNREGISTERED / INVALID_ARGUMENT) 토큰 목록
      */
-    @Async
-    public void sendMessages(List<String> targetTokens, String title, String body, NotificationType type) {
-        if (targetTokens.isEmpty()) return;
+    public CompletableFuture<List<String>> sendMessages(List<String> targetTokens, String title, String body, NotificationType type) {
+        if (targetTokens.isEmpty()) return CompletableFuture.completedFuture(List.of());
 
         List<Message> messages = targetTokens.stream()
                 .map(token -> Message.builder()
@@ -59,11 +165,129 @@ public class FcmService {
                         .build())
                 .collect(Collectors.toList());
 
+        List<CompletableFuture<SendResponse>> results = fcmBatchSender.submit(messages);
+        return CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+                .handle((ignored, error) -> handleResults(targetTokens, results, type));
+    }
+
+    /**
+     * 토큰별 발송 결과 처리
+     * @return 만료되어 삭제해야 하는 토큰 목록
+     */
+    private List<String> handleResults(List<String> tokens, List<CompletableFuture<SendResponse>> results, NotificationType type) {
+        List<String> deadTokens = new ArrayList<>();
+        int success = 0;
+        for (int i = 0; i < tokens.size(); i++) {
+            CompletableFuture<SendResponse> result = results.get(i);
+            if (result.isCompletedExceptionally()) {
+                failedCounter.increment();
+                log.error("[FCM] 발송 에러: {}", result.exceptionNow().getMessage());
+                continue;
+            }
+            SendResponse response = result.resultNow();
+            if (response.isSuccessful()) {
+                success++;
+            } else {
+                failedCounter.increment();
+                FirebaseMessagingException exception = response.getException();
+                if (fcmTokenPruner.isDeadToken(exception)) {
+                    deadTokens.add(tokens.get(i));
+                } else {
+                    log.warn("[FCM] 토큰 발송 실패 (Type: {}): {}", type, exception.getMessage());
+                }
+            }
+        }
+        log.info("[FCM] {} 건 중 {} 건 발송 완료, 만료 토큰 {} 건 (Type: {})", tokens.size(), success, deadTokens.size(), type);
+        return deadTokens;
+    }
+
+    private void enqueue(PushNotification notification) {
+        if (notification.getOrigin() == Origin.SCHEDULER) {
+            enqueueBlocking(notification);
+            return;
+        }
+        try {
+            if (queue.offer(notification, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                enqueuedCounter.increment();
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        requestDroppedCounter.increment();
+        log.warn("[FCM] 알림 큐 포화로 알림 폐기 (유저 ID: {}, Type: {})", notification.getUserId(), notification.getType());
+    }
+
+    /**
+     * 스케줄러 알림 적재: 자리가 날 때까지 offer-timeout 단위로 재시도 (종료 중이거나 인터럽트되면 폐기)
+     */
+    private void enqueueBlocking(PushNotification notification) {
+        long startedAt = System.nanoTime();
         try {
-            FirebaseMessaging.getInstance().sendEach(messages);
-            log.info("[FCM] {} 건 발송 완료 (Type: {})", targetTokens.size(), type);
-        } catch (Exception e) {
-            log.error("[FCM] 발송 에러: {}", e.getMessage());
+            while (running) {
+                if (queue.offer(notification, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    enqueuedCounter.increment();
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            enqueueWaitTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
         }
+        schedulerDroppedCounter.increment();
+        log.warn("[FCM] 종료 중이라 스케줄러 알림 폐기 (유저 ID: {}, Type: {})", notification.getUserId(), notification.getType());
+    }
+
+    private void runWorker() {
+        while (running || !queue.isEmpty()) {
+            try {
+                PushNotification notification = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (notification != null) {
+                    Timer.Sample sample = Timer.start(meterRegistry);
+                    deliver(notification).whenComplete((ignored, error) -> sample.stop(sendTimer));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                failedCounter.increment();
+                log.error("[FCM] 알림 처리 에러: {}", e.getMessage());
+            }
+        }
+    }
+
+    private CompletableFuture<Void> deliver(PushNotification notification) {
+        Long userId = notification.getUserId();
+        List<String> tokens = notification.getTokens() != null ? notification.getTokens() : fcmTokenCache.getTokens(userId);
+        tokens = fcmTokenPruner.filterAlive(tokens);
+        return sendMessages(tokens, notification.getTitle(), notification.getBody(), notification.getType())
+                .thenAccept(deadTokens -> {
+                    if (!deadTokens.isEmpty()) fcmTokenPruner.report(userId, deadTokens);
+                });
+    }
+
+    /**
+     * 큐에 적재되는 알림 단위 (엔티티 대신 유저 ID만 보관, tokens가 null이면 워커가 토큰 캐시에서 조회)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class PushNotification {
+        private final Long userId;
+        private final List<String> tokens;
+        private final String title;
+        private final String body;
+        private final NotificationType type;
+        private final Origin origin;
+    }
+
+    /**
+     * 알림 출처 (큐 포화 시 처리 방식 구분)
+     */
+    public enum Origin {
+        // API 요청 경로: 잠시 대기 후 폐기
+        REQUEST,
+        // 정기 발송: 자리가 날 때까지 대기
+        SCHEDULER
     }
 }
@@ -0,0 +1,237 @@
+package com.unlock.api.domain.auth.service;
+
+import com.unlock.api.common.cache.LocalLruCache;
+import com.unlock.api.domain.user.repository.UserFcmTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유저별 FCM 토큰 목록 캐시
+ * 로컬 Near Cache(짧은 TTL) -> Redis Set(FCM:{userId}) -> DB 순으로 조회합니다.
+ * - 토큰이 없는 유저도 빈 값 표식(EMPTY_MARKER)으로 캐싱하여 매번 DB를 조회하지 않습니다.
+ * - 토큰 등록/로그아웃/탈퇴/만료 토큰 정리 시 evict로 무효화하며, 트랜잭션 안이면 커밋 이후에 무효화합니다.
+ * - 다른 노드의 로컬 캐시는 local-ttl 이내에 자연 만료됩니다.
+ * 무효화 시 세대 번호(FCM_GEN:{userId})를 올리고, Redis 저장은 조회 시작 시점의 세대와 같을 때만 수행합니다.
+ * (DB 조회와 저장 사이에 토큰이 바뀌어도 이전 목록이 다시 캐싱되지 않음)
+ * 로컬 캐시는 최대 크기를 넘으면 가장 오래 사용되지 않은 유저부터 내보냅니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FcmTokenCache {
+
+    private static final String KEY_PREFIX = "FCM:";
+    private static final String GEN_PREFIX = "FCM_GEN:";
+    private static final String EMPTY_MARKER = "-";
+    private static final int LOCAL_MAX_ENTRIES = 100_000;
+    // 세대 번호가 일치할 때만 토큰 집합을 새로 저장 (ARGV[3..] = 토큰)
+    private static final byte[] WRITE_IF_SAME_GEN_SCRIPT = (
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('SADD', KEYS[1], unpack(ARGV, 3)) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1")
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate redisTemplate;
+    private final UserFcmTokenRepository fcmTokenRepository;
+
+    @Value("${fcm.token-cache.local-ttl-ms}")
+    private long localTtlMs;
+
+    @Value("${fcm.token-cache.redis-ttl-hours}")
+    private long redisTtlHours;
+
+    private final LocalLruCache<Long, List<String>> local = new LocalLruCache<>(LOCAL_MAX_ENTRIES);
+
+    /**
+     * 특정 유저의 토큰 목록 조회
+     */
+    public List<String> getTokens(Long userId) {
+        return resolveAll(List.of(userId)).get(userId);
+    }
+
+    /**
+     * 여러 유저의 토큰 목록 일괄 조회 (스케줄러 샤드 단위)
+     * 로컬 캐시 미스는 Redis 파이프라인 한 번, Redis 미스는 DB 쿼리 한 번으로 채웁니다.
+     * @return 유저 ID -> 토큰 목록 (토큰이 없으면 빈 목록)
+     */
+    public Map<Long, List<String>> resolveAll(Collection<Long> userIds) {
+        Map<Long, List<String>> result = new HashMap<>();
+        List<Long> localMisses = new ArrayList<>();
+        long now = System.currentTimeMillis();
+
+        for (Long userId : userIds) {
+            List<String> tokens = local.get(userId);
+            if (tokens != null) result.put(userId, tokens);
+            else localMisses.add(userId);
+        }
+        if (localMisses.isEmpty()) return result;
+
+        // Redis 미스 유저 -> 조회 시점의 세대 번호 (Redis 장애 시 null로 두고 Redis에는 저장하지 않음)
+        Map<Long, String> redisMisses = new LinkedHashMap<>();
+        try {
+            redisMisses = resolveFromRedis(localMisses, result);
+        } catch (DataAccessException e) {
+            log.warn("[FCM] 토큰 캐시(Redis) 조회 실패, DB에서 조회합니다. 사유: {}", e.getMessage());
+            for (Long userId : localMisses) redisMisses.put(userId, null);
+        }
+
+        if (!redisMisses.isEmpty()) {
+            List<Long> missIds = List.copyOf(redisMisses.keySet());
+            Map<Long, List<String>> loaded = new HashMap<>();
+            missIds.forEach(userId -> loaded.put(userId, new ArrayList<>()));
+            for (Object[] row : fcmTokenRepository.findUserIdAndTokenByUserIdIn(missIds)) {
+                loaded.get((Long) row[0]).add((String) row[1]);
+            }
+            Set<Long> stale = storeInRedis(loaded, redisMisses);
+            loaded.forEach((userId, tokens) -> {
+                result.put(userId, tokens);
+                // 조회 도중 무효화된 유저는 로컬에도 남기지 않음 (다음 조회에서 다시 읽음)
+                if (!stale.contains(userId)) putLocal(userId, tokens, now);
+            });
+        }
+        return result;
+    }
+
+    /**
+     * 특정 유저의 캐시 무효화
+     */
+    public void evict(Long userId) {
+        evictAll(List.of(userId));
+    }
+
+    /**
+     * 여러 유저의 캐시 무효화 (트랜잭션 안이면 커밋 이후 수행)
+     */
+    public void evictAll(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return;
+        List<Long> targets = List.copyOf(userIds);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doEvict(targets);
+                }
+            });
+        } else {
+            doEvict(targets);
+        }
+    }
+
+    private void doEvict(List<Long> userIds) {
+        userIds.forEach(local::remove);
+        long genTtlMillis = TimeUnit.HOURS.toMillis(redisTtlHours);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long userId : userIds) {
+                    byte[] genKey = genKey(userId);
+                    connection.stringCommands().incr(genKey);
+                    connection.keyCommands().pExpire(genKey, genTtlMillis);
+                    connection.keyCommands().del(key(userId));
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("[FCM] 토큰 캐시(Redis) 무효화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return Redis 미스 유저 ID -> 조회 시점의 세대 번호
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Long, String> resolveFromRedis(List<Long> userIds, Map<Long, List<String>> result) {
+        List<Object> replies = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            userIds.forEach(id -> {
+                connection.setCommands().sMembers(key(id));
+                connection.stringCommands().get(genKey(id));
+            });
+            return null;
+        });
+
+        long now = System.currentTimeMillis();
+        Map<Long, String> misses = new LinkedHashMap<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            Long userId = userIds.get(i);
+            Set<String> values = (Set<String>) replies.get(i * 2);
+            if (values == null || values.isEmpty()) {
+                String generation = (String) replies.get(i * 2 + 1);
+                misses.put(userId, generation == null ? "0" : generation);
+                continue;
+            }
+            List<String> tokens = values.stream().filter(v -> !EMPTY_MARKER.equals(v)).toList();
+            result.put(userId, tokens);
+            putLocal(userId, tokens, now);
+        }
+        return misses;
+    }
+
+    /**
+     * 조회 시점의 세대와 같은 유저만 Redis에 저장
+     * @return 그 사이 무효화되어 저장하지 않은 유저 ID
+     */
+    private Set<Long> storeInRedis(Map<Long, List<String>> loaded, Map<Long, String> generations) {
+        List<Long> targets = loaded.keySet().stream().filter(id -> generations.get(id) != null).toList();
+        if (targets.isEmpty()) return Set.of();
+
+        byte[] ttlMillis = String.valueOf(TimeUnit.HOURS.toMillis(redisTtlHours)).getBytes(StandardCharsets.UTF_8);
+        try {
+            List<Object> written = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long userId : targets) {
+                    List<String> tokens = loaded.get(userId);
+                    List<byte[]> keysAndArgs = new ArrayList<>();
+                    keysAndArgs.add(key(userId));
+                    keysAndArgs.add(genKey(userId));
+                    keysAndArgs.add(generations.get(userId).getBytes(StandardCharsets.UTF_8));
+                    keysAndArgs.add(ttlMillis);
+                    (tokens.isEmpty() ? List.of(EMPTY_MARKER) : tokens)
+                            .forEach(v -> keysAndArgs.add(v.getBytes(StandardCharsets.UTF_8)));
+                    connection.scriptingCommands().eval(WRITE_IF_SAME_GEN_SCRIPT, ReturnType.INTEGER, 2,
+                            keysAndArgs.toArray(byte[][]::new));
+                }
+                return null;
+            });
+            Set<Long> stale = new HashSet<>();
+            for (int i = 0; i < targets.size(); i++) {
+                if (!Long.valueOf(1L).equals(written.get(i))) stale.add(targets.get(i));
+            }
+            return stale;
+        } catch (DataAccessException e) {
+            log.warn("[FCM] 토큰 캐시(Redis) 저장 실패: {}", e.getMessage());
+            return Set.of();
+        }
+    }
+
+    private void putLocal(Long userId, List<String> tokens, long now) {
+        local.put(userId, List.copyOf(tokens), now + localTtlMs);
+    }
+
+    private static byte[] key(Long userId) {
+        return (KEY_PREFIX + userId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] genKey(Long userId) {
+        return (GEN_PREFIX + userId).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,126 @@
+package com.unlock.api.domain.auth.service;
+
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.unlock.api.domain.user.repository.UserFcmTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 만료된 FCM 토큰 정리기
+ * - FCM 발송 결과가 UNREGISTERED / INVALID_ARGUMENT인 토큰을 모아 두었다가 주기적으로 일괄 삭제합니다.
+ * - 삭제 대기 중인 토큰은 다음 발송 대상에서 즉시 제외합니다.
+ * - 일정 기간 갱신(updateLastUsed)되지 않은 토큰은 매일 한 번 일괄 삭제합니다.
+ * 절감된 발송 수(unlock.fcm.sends.avoided)는 발송 직전에 삭제 대기 토큰으로 걸러낸 발송 수만 집계합니다.
+ * 삭제된 토큰 수는 별도 메트릭(unlock.fcm.tokens.pruned, reason 태그)으로 집계합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FcmTokenPruner {
+
+    private final UserFcmTokenRepository fcmTokenRepository;
+    private final FcmTokenCache fcmTokenCache;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${fcm.prune.batch-size}")
+    private int batchSize;
+
+    @Value("${fcm.prune.stale-days}")
+    private long staleDays;
+
+    // 삭제 대기 중인 토큰 -> 소유 유저 ID
+    private final Map<String, Long> pendingTokens = new ConcurrentHashMap<>();
+
+    private Counter invalidPrunedCounter;
+    private Counter stalePrunedCounter;
+    private Counter avoidedCounter;
+
+    @PostConstruct
+    void initMetrics() {
+        invalidPrunedCounter = Counter.builder("unlock.fcm.tokens.pruned").tag("reason", "invalid").register(meterRegistry);
+        stalePrunedCounter = Counter.builder("unlock.fcm.tokens.pruned").tag("reason", "stale").register(meterRegistry);
+        avoidedCounter = Counter.builder("unlock.fcm.sends.avoided")
+                .description("삭제 대기 중인 만료 토큰이라 발송 직전에 제외한 메시지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 더 이상 유효하지 않은 토큰인지 판단 (FCM 에러 코드 기준)
+     */
+    public boolean isDeadToken(FirebaseMessagingException e) {
+        MessagingErrorCode code = e.getMessagingErrorCode();
+        return code == MessagingErrorCode.UNREGISTERED || code == MessagingErrorCode.INVALID_ARGUMENT;
+    }
+
+    /**
+     * 만료 토큰 삭제 예약
+     */
+    public void report(Long userId, List<String> deadTokens) {
+        deadTokens.forEach(token -> pendingTokens.put(token, userId));
+    }
+
+    /**
+     * 발송 대상 토큰에서 삭제 대기 중인 토큰을 제외하고, 제외한 발송 수를 집계합니다.
+     */
+    public List<String> filterAlive(List<String> tokens) {
+        List<String> alive = new ArrayList<>(tokens.size());
+        int skipped = 0;
+        for (String token : tokens) {
+            if (pendingTokens.containsKey(token)) skipped++;
+            else alive.add(token);
+        }
+        if (skipped > 0) avoidedCounter.increment(skipped);
+        return alive;
+    }
+
+    /**
+     * 삭제 대기 중인 만료 토큰 일괄 삭제
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${fcm.prune.flush-interval-ms}")
+    public void flush() {
+        while (!pendingTokens.isEmpty()) {
+            List<String> batch = pendingTokens.keySet().stream().limit(batchSize).toList();
+            int deleted = fcmTokenRepository.deleteAllByTokenIn(batch);
+
+            Set<Long> userIds = new HashSet<>();
+            for (String token : batch) {
+                Long userId = pendingTokens.remove(token);
+                if (userId != null) userIds.add(userId);
+            }
+            fcmTokenCache.evictAll(userIds);
+            invalidPrunedCounter.increment(deleted);
+            log.info("[FCM] 만료 토큰 {}건 삭제", deleted);
+        }
+    }
+
+    /**
+     * 장기 미사용 토큰 일괄 삭제
+     */
+    @Transactional
+    @Scheduled(cron = "${fcm.prune.stale-sweep-cron}")
+    public void sweepStaleTokens() {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(staleDays);
+        List<Long> userIds = fcmTokenRepository.findUserIdsByLastUsedAtBefore(threshold);
+        int deleted = fcmTokenRepository.deleteAllByLastUsedAtBefore(threshold);
+        fcmTokenCache.evictAll(userIds);
+        stalePrunedCounter.increment(deleted);
+        log.info("[FCM] {}일 이상 미사용 토큰 {}건 삭제", staleDays, deleted);
+    }
+}
@@ -3,8 +3,15 @@ package com.unlock.api.domain.auth.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -17,6 +24,15 @@ public class RedisService {
 
     private final StringRedisTemplate redisTemplate;
 
+    // 소유자가 일치할 때만 리스를 연장/해제하는 스크립트 (다른 노드가 회수한 리스를 건드리지 않도록)
+    private static final RedisScript<Long> RENEW_LEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class);
+    private static final long SCHEDULE_PROGRESS_TTL_MINUTES = 10;
+
     /**
      * 인증번호 저장 (3분간 유효)
      */
@@ -41,37 +57,115 @@ public class RedisService {
     }
 
     /**
-     * Refresh Token 저장
+     * 특정 시간에 대한 작업 락 획득 (중복 실행 방지)
+     * @return 락 획득 성공 시 true, 이미 있으면 false
      */
-    public void saveRefreshToken(Long userId, String refreshToken, long expirationTime) {
-        String key = "RT:" + userId;
-        redisTemplate.opsForValue().set(key, refreshToken, expirationTime, TimeUnit.MILLISECONDS);
-        log.info("Redis RefreshToken 저장 완료 - Key: {}", key);
+    public boolean lockSchedule(String timeKey) {
+        String key = "LOCK:" + timeKey;
+        // setIfAbsent는 값이 없을 때만 저장함 (Atomic)
+        Boolean success = redisTemplate.opsForValue().setIfAbsent(key, "LOCKED", 59, TimeUnit.SECONDS);
+        return success != null && success;
     }
 
     /**
-     * Refresh Token 조회
+     * 특정 시간의 스케줄 버킷 리스 획득 (클러스터 모드)
+     * 리스가 만료되면 다른 노드가 해당 버킷을 회수하여 이어서 처리합니다.
      */
-    public String getRefreshToken(Long userId) {
-        return redisTemplate.opsForValue().get("RT:" + userId);
+    public boolean acquireScheduleBucket(String timeKey, int bucket, String owner, long leaseMillis) {
+        String key = "SCHED:" + timeKey + ":LEASE:" + bucket;
+        Boolean success = redisTemplate.opsForValue().setIfAbsent(key, owner, leaseMillis, TimeUnit.MILLISECONDS);
+        return success != null && success;
     }
 
     /**
-     * Refresh Token 삭제 (로그아웃 시)
+     * 보유 중인 스케줄 버킷 리스 연장
+     * @return 여전히 리스를 보유하고 있으면 true
      */
-    public void deleteRefreshToken(Long userId) {
-        redisTemplate.delete("RT:" + userId);
+    public boolean renewScheduleBucket(String timeKey, int bucket, String owner, long leaseMillis) {
+        Long result = redisTemplate.execute(RENEW_LEASE_SCRIPT,
+                List.of("SCHED:" + timeKey + ":LEASE:" + bucket), owner, String.valueOf(leaseMillis));
+        return result != null && result == 1L;
     }
 
     /**
-     * 특정 시간에 대한 작업 락 획득 (중복 실행 방지)
-     * @return 락 획득 성공 시 true, 이미 있으면 false
+     * 보유 중인 스케줄 버킷 리스 반납
      */
-    public boolean lockSchedule(String timeKey) {
-        String key = "LOCK:" + timeKey;
-        // setIfAbsent는 값이 없을 때만 저장함 (Atomic)
-        Boolean success = redisTemplate.opsForValue().setIfAbsent(key, "LOCKED", 59, TimeUnit.SECONDS);
-        return success != null && success;
+    public void releaseScheduleBucket(String timeKey, int bucket, String owner) {
+        redisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of("SCHED:" + timeKey + ":LEASE:" + bucket), owner);
+    }
+
+    /**
+     * 스케줄 버킷의 진행 체크포인트(마지막으로 커밋된 커플 ID) 조회
+     * @return 체크포인트가 없으면 0
+     */
+    public long getScheduleCheckpoint(String timeKey, int bucket) {
+        String value = redisTemplate.opsForValue().get("SCHED:" + timeKey + ":CKPT:" + bucket);
+        return value == null ? 0L : Long.parseLong(value);
+    }
+
+    /**
+     * 스케줄 버킷의 진행 체크포인트 저장 (재시도 시 이미 처리된 커플에게 중복 알림 방지)
+     */
+    public void saveScheduleCheckpoint(String timeKey, int bucket, long lastCoupleId) {
+        redisTemplate.opsForValue().set("SCHED:" + timeKey + ":CKPT:" + bucket,
+                String.valueOf(lastCoupleId), SCHEDULE_PROGRESS_TTL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    /**
+     * 알림 판단까지 마친 커플 표시 (샤드 커밋 직전)
+     * 커밋 이후 체크포인트 저장 전에 노드가 중단되어 다른 노드가 같은 샤드를 다시 처리해도 알림을 다시 보내지 않도록 합니다.
+     */
+    public void markScheduleNotified(String timeKey, int bucket, Collection<Long> coupleIds) {
+        if (coupleIds.isEmpty()) return;
+        String key = "SCHED:" + timeKey + ":SENT:" + bucket;
+        redisTemplate.opsForSet().add(key, coupleIds.stream().map(String::valueOf).toArray(String[]::new));
+        redisTemplate.expire(key, SCHEDULE_PROGRESS_TTL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    /**
+     * 알림 완료 표시 취소 (표시 후 샤드가 롤백된 경우)
+     */
+    public void unmarkScheduleNotified(String timeKey, int bucket, Collection<Long> coupleIds) {
+        if (coupleIds.isEmpty()) return;
+        redisTemplate.opsForSet().remove("SCHED:" + timeKey + ":SENT:" + bucket, coupleIds.stream().map(String::valueOf).toArray());
+    }
+
+    /**
+     * 이미 알림 판단까지 마친 커플 조회 (SMISMEMBER 1회)
+     */
+    public Set<Long> findScheduleNotified(String timeKey, int bucket, List<Long> coupleIds) {
+        if (coupleIds.isEmpty()) return Set.of();
+        Map<Object, Boolean> members = redisTemplate.opsForSet().isMember("SCHED:" + timeKey + ":SENT:" + bucket,
+                coupleIds.stream().map(String::valueOf).toArray());
+        Set<Long> notified = new HashSet<>();
+        if (members != null) {
+            members.forEach((member, isMember) -> {
+                if (Boolean.TRUE.equals(isMember)) notified.add(Long.valueOf((String) member));
+            });
+        }
+        return notified;
+    }
+
+    /**
+     * 스케줄 버킷 처리 완료 표시
+     */
+    public void completeScheduleBucket(String timeKey, int bucket) {
+        redisTemplate.opsForValue().set("SCHED:" + timeKey + ":DONE:" + bucket,
+                "DONE", SCHEDULE_PROGRESS_TTL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    /**
+     * 스케줄 버킷 중 처리 완료된 버킷 조회 (MGET 1회)
+     */
+    public Set<Integer> findCompletedScheduleBuckets(String timeKey, List<Integer> buckets) {
+        if (buckets.isEmpty()) return Set.of();
+        List<String> values = redisTemplate.opsForValue().multiGet(
+                buckets.stream().map(b -> "SCHED:" + timeKey + ":DONE:" + b).toList());
+        Set<Integer> completed = new HashSet<>();
+        for (int i = 0; i < buckets.size(); i++) {
+            if (values != null && values.get(i) != null) completed.add(buckets.get(i));
+        }
+        return completed;
     }
 
     /**
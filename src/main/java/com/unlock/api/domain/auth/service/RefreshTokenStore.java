@@ -0,0 +1,192 @@
+package com.unlock.api.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기기(로그인)별 Refresh Token 계열 저장소
+ * 로그인할 때마다 새 계열(familyId)을 만들고, 재발급 시 같은 계열 안에서 토큰 ID만 교체하므로 여러 기기가 서로를 로그아웃시키지 않습니다.
+ * - RT:{userId}:{familyId} = "현재 토큰 ID|직전 토큰 ID|교체 시각(ms)" (TTL = Refresh Token 유효 기간)
+ * - RT_FAMILIES:{userId} = 계열 ID 정렬 집합 (점수 = 마지막 발급 시각, 일괄 폐기 및 기기 수 제한용)
+ * 확인과 교체는 Lua 스크립트 한 번(단일 왕복)으로 원자적으로 수행합니다.
+ * - 직전 토큰이 유예 시간 안에 다시 오면 동시 재시도로 보고 계열을 유지한 채 거절합니다.
+ * - 그 외에 이미 교체된 토큰이 오면 탈취 후 재사용으로 보고 계열 전체를 폐기합니다.
+ * 스크립트가 계열 키 이름을 직접 만들어 접근하므로 단일 Redis(비클러스터) 기준입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    // Refresh Token 키 공통 접두사 (두 형식이 같은 접두사를 쓰며 콜론 뒤 계열 ID 유무로 구분)
+    // - RT:{userId}            : 계열 도입 이전의 유저당 단일 토큰 (값 = 토큰 원문)
+    // - RT:{userId}:{familyId} : 기기(로그인)별 계열 (값 = "현재 토큰 ID|직전 토큰 ID|교체 시각")
+    private static final String KEY_PREFIX = "RT:";
+    private static final String INDEX_PREFIX = "RT_FAMILIES:";
+
+    // 새 계열 저장 + 만료된 계열 정리 + 기기 수 초과 시 가장 오래된 계열 폐기
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('SET', KEYS[1], ARGV[1] .. '||' .. ARGV[3], 'PX', ARGV[2]) " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', tonumber(ARGV[3]) - tonumber(ARGV[2])) " +
+            "redis.call('ZADD', KEYS[2], ARGV[3], ARGV[4]) " +
+            "local over = redis.call('ZCARD', KEYS[2]) - tonumber(ARGV[5]) " +
+            "if over > 0 then " +
+            "  for _, fid in ipairs(redis.call('ZRANGE', KEYS[2], 0, over - 1)) do redis.call('DEL', ARGV[6] .. fid) end " +
+            "  redis.call('ZREMRANGEBYRANK', KEYS[2], 0, over - 1) " +
+            "else over = 0 end " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[2]) " +
+            "return over",
+            Long.class);
+    // 1: 교체 성공, 2: 유예 시간 내 직전 토큰(동시 재시도), 3: 재사용 탐지(계열 폐기), 0: 없는 계열
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "local v = redis.call('GET', KEYS[1]) " +
+            "if not v then return 0 end " +
+            "local s1 = string.find(v, '|', 1, true) " +
+            "local s2 = string.find(v, '|', s1 + 1, true) " +
+            "if string.sub(v, 1, s1 - 1) == ARGV[1] then " +
+            "  redis.call('SET', KEYS[1], ARGV[2] .. '|' .. ARGV[1] .. '|' .. ARGV[4], 'PX', ARGV[3]) " +
+            "  redis.call('ZADD', KEYS[2], ARGV[4], ARGV[6]) " +
+            "  redis.call('PEXPIRE', KEYS[2], ARGV[3]) " +
+            "  return 1 " +
+            "end " +
+            "if string.sub(v, s1 + 1, s2 - 1) == ARGV[1] " +
+            "    and tonumber(ARGV[4]) - tonumber(string.sub(v, s2 + 1)) <= tonumber(ARGV[5]) then return 2 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('ZREM', KEYS[2], ARGV[6]) " +
+            "return 3",
+            Long.class);
+    private static final RedisScript<Long> REVOKE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZREM', KEYS[2], ARGV[1]) return redis.call('DEL', KEYS[1])",
+            Long.class);
+    private static final RedisScript<Long> REVOKE_ALL_SCRIPT = new DefaultRedisScript<>(
+            "local fids = redis.call('ZRANGE', KEYS[1], 0, -1) " +
+            "for _, fid in ipairs(fids) do redis.call('DEL', ARGV[1] .. fid) end " +
+            "redis.call('DEL', KEYS[1], KEYS[2]) " +
+            "return #fids",
+            Long.class);
+    private static final RedisScript<Long> CONSUME_LEGACY_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${jwt.refresh-token-validity}")
+    private long ttlMillis;
+
+    @Value("${jwt.refresh.max-families}")
+    private int maxFamilies;
+
+    @Value("${jwt.refresh.reuse-grace-ms}")
+    private long reuseGraceMillis;
+
+    private final Map<Rotation, Counter> rotationCounters = new EnumMap<>(Rotation.class);
+
+    @PostConstruct
+    void initMetrics() {
+        for (Rotation rotation : Rotation.values()) {
+            rotationCounters.put(rotation, Counter.builder("unlock.auth.refresh")
+                    .tag("result", rotation.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 새 계열 등록 (로그인 시)
+     */
+    public void issue(Long userId, String familyId, String tokenId) {
+        Long evicted = redisTemplate.execute(ISSUE_SCRIPT,
+                List.of(familyKey(userId, familyId), indexKey(userId)),
+                tokenId,
+                String.valueOf(ttlMillis),
+                String.valueOf(System.currentTimeMillis()),
+                familyId,
+                String.valueOf(maxFamilies),
+                familyKeyPrefix(userId));
+        if (evicted != null && evicted > 0) {
+            log.info("[AUTH] 유저(ID:{}) 기기 수 초과로 오래된 로그인 {}개 폐기", userId, evicted);
+        }
+    }
+
+    /**
+     * 제시된 토큰 ID가 계열의 현재 토큰이면 새 토큰 ID로 교체
+     */
+    public Rotation rotate(Long userId, String familyId, String presentedTokenId, String newTokenId) {
+        Long result = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(familyKey(userId, familyId), indexKey(userId)),
+                presentedTokenId,
+                newTokenId,
+                String.valueOf(ttlMillis),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(reuseGraceMillis),
+                familyId);
+        Rotation rotation = switch (result == null ? 0 : result.intValue()) {
+            case 1 -> Rotation.ROTATED;
+            case 2 -> Rotation.ALREADY_ROTATED;
+            case 3 -> Rotation.REUSED;
+            default -> Rotation.NOT_FOUND;
+        };
+        rotationCounters.get(rotation).increment();
+        if (rotation == Rotation.REUSED) {
+            log.warn("[AUTH] 유저(ID:{}) 이미 교체된 Refresh Token 재사용 탐지, 계열({}) 폐기", userId, familyId);
+        }
+        return rotation;
+    }
+
+    /**
+     * 한 기기(계열)만 폐기 (해당 기기 로그아웃)
+     */
+    public void revoke(Long userId, String familyId) {
+        redisTemplate.execute(REVOKE_SCRIPT, List.of(familyKey(userId, familyId), indexKey(userId)), familyId);
+    }
+
+    /**
+     * 유저의 모든 계열 폐기 (전체 로그아웃, 회원 탈퇴)
+     */
+    public void revokeAll(Long userId) {
+        redisTemplate.execute(REVOKE_ALL_SCRIPT, List.of(indexKey(userId), legacyKey(userId)),
+                familyKeyPrefix(userId));
+    }
+
+    /**
+     * 이전 형식(유저당 단일) Refresh Token 확인 후 삭제
+     * 계열 도입 이전에 발급된 토큰을 한 번만 새 계열로 전환하기 위한 것으로, Refresh Token 유효 기간이 지나면 제거합니다.
+     */
+    public boolean consumeLegacy(Long userId, String refreshToken) {
+        Long deleted = redisTemplate.execute(CONSUME_LEGACY_SCRIPT, List.of(legacyKey(userId)), refreshToken);
+        return deleted != null && deleted > 0;
+    }
+
+    private static String familyKey(Long userId, String familyId) {
+        return familyKeyPrefix(userId) + familyId;
+    }
+
+    private static String indexKey(Long userId) {
+        return INDEX_PREFIX + userId;
+    }
+
+    /**
+     * 재발급(교체) 결과
+     */
+    public enum Rotation {
+        ROTATED,
+        // 유예 시간 안에 직전 토큰으로 다시 요청 (동시 재시도, 계열 유지)
+        ALREADY_ROTATED,
+        // 이미 교체된 토큰 재사용 (계열 폐기)
+        REUSED,
+        // 만료되었거나 폐기된 계열
+        NOT_FOUND
+    }
+}
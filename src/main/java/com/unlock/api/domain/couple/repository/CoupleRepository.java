@@ -1,15 +1,16 @@
 package com.unlock.api.domain.couple.repository;
 
 import com.unlock.api.domain.couple.entity.Couple;
-import io.lettuce.core.dynamic.annotation.Param;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalTime;
 import java.util.List;
 import org.springframework.data.jpa.repository.Query;
 
 public interface CoupleRepository extends JpaRepository<Couple, Long> {
-    
+
     /**
      * 특정 알림 시간을 가진 모든 커플 조회 (유저 정보 포함 - N+1 방지)
      */
@@ -19,6 +20,38 @@ public interface CoupleRepository extends JpaRepository<Couple, Long> {
            "WHERE c.notificationTime = :notificationTime")
     List<Couple> findAllByNotificationTimeWithUsers(@Param("notificationTime") LocalTime notificationTime);
 
+    /**
+     * 특정 알림 시간을 가진 커플 ID를 lastId 이후부터 ID 오름차순으로 조회 (Keyset 페이지네이션, 스케줄러 샤드 구성용)
+     */
+    @Query("SELECT c.id FROM Couple c " +
+           "WHERE c.notificationTime = :notificationTime AND c.id > :lastId " +
+           "ORDER BY c.id ASC")
+    List<Long> findIdsByNotificationTimeAfter(@Param("notificationTime") LocalTime notificationTime,
+                                              @Param("lastId") Long lastId,
+                                              Pageable pageable);
+
+    /**
+     * 특정 알림 시간 + 버킷(couple_id % buckets)에 속한 커플 ID를 lastId 이후부터 조회 (클러스터 모드 스케줄러용)
+     */
+    @Query("SELECT c.id FROM Couple c " +
+           "WHERE c.notificationTime = :notificationTime AND MOD(c.id, :buckets) = :bucket AND c.id > :lastId " +
+           "ORDER BY c.id ASC")
+    List<Long> findIdsByNotificationTimeAndBucketAfter(@Param("notificationTime") LocalTime notificationTime,
+                                                       @Param("buckets") int buckets,
+                                                       @Param("bucket") int bucket,
+                                                       @Param("lastId") Long lastId,
+                                                       Pageable pageable);
+
+    /**
+     * ID 목록에 해당하는 커플 조회 (유저 정보 포함 - N+1 방지)
+     */
+    @Query("SELECT DISTINCT c FROM Couple c " +
+           "JOIN FETCH c.user1 " +
+           "JOIN FETCH c.user2 " +
+           "WHERE c.id IN :ids " +
+           "ORDER BY c.id ASC")
+    List<Couple> findAllByIdInWithUsers(@Param("ids") List<Long> ids);
+
     /**
      * 특정 알림 시간을 가진 모든 커플 조회 (레거시)
      */
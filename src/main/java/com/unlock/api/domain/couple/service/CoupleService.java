@@ -2,8 +2,11 @@ package com.unlock.api.domain.couple.service;
 
 import com.unlock.api.common.exception.BusinessException;
 import com.unlock.api.common.exception.ErrorCode;
+import com.unlock.api.common.security.auth.AuthContextCache;
 import com.unlock.api.domain.answer.repository.AnswerRepository;
 import com.unlock.api.domain.answer.repository.AnswerRevealRepository;
+import com.unlock.api.domain.answer.service.ArchiveMonthCache;
+import com.unlock.api.domain.answer.service.RevealResolver;
 import com.unlock.api.domain.auth.entity.NotificationType;
 import com.unlock.api.domain.auth.service.FcmService;
 import com.unlock.api.domain.auth.service.RedisService;
@@ -12,10 +15,13 @@ import com.unlock.api.domain.couple.dto.CoupleDto.CoupleResponse;
 import com.unlock.api.domain.couple.entity.Couple;
 import com.unlock.api.domain.couple.repository.CoupleRepository;
 import com.unlock.api.domain.question.repository.CoupleQuestionRepository;
+import com.unlock.api.domain.question.service.QuestionDeckService;
+import com.unlock.api.domain.question.service.TodaySnapshotCache;
 import com.unlock.api.domain.user.entity.User;
 import com.unlock.api.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,6 +45,11 @@ public class CoupleService {
     private final AnswerRevealRepository answerRevealRepository;
     private final CoupleQuestionRepository coupleQuestionRepository;
     private final FcmService fcmService;
+    private final QuestionDeckService questionDeckService;
+    private final TodaySnapshotCache todaySnapshotCache;
+    private final ArchiveMonthCache archiveMonthCache;
+    private final RevealResolver revealResolver;
+    private final AuthContextCache authContextCache;
 
     /**
      * 내 커플 정보 및 초대 코드 조회
@@ -158,8 +169,16 @@ public class CoupleService {
         user.setCouple(couple);
         requester.setCouple(couple);
 
-        // 3. 처리 완료된 Redis 신청 정보 삭제
+        // 3. 처리 완료된 Redis 신청 정보 삭제 및 두 사람의 인증 컨텍스트 무효화
         redisService.deleteCoupleRequest(userId);
+        authContextCache.evict(userId, requesterId);
+
+        // 4. 질문 덱 생성 (실패하더라도 첫 배정 시 다시 생성되므로 연결은 유지)
+        try {
+            questionDeckService.createDeck(couple.getId());
+        } catch (DataAccessException e) {
+            log.warn("[COUPLE] 커플(ID:{}) 질문 덱 생성 실패: {}", couple.getId(), e.getMessage());
+        }
 
         // [Push Notification] 신청자에게 연결 완료 알림 발송
         fcmService.sendToUser(requester, "un:lock 💕", user.getNickname() + "님이 신청을 수락하여 커플 연결이 완료되었습니다!", NotificationType.COUPLE_CONNECTED);
@@ -197,8 +216,19 @@ public class CoupleService {
         partner.setCouple(null);
         partner.updateInviteCode(generateInviteCode());
 
-        // 3. 커플 엔티티 삭제
+        // 3. 커플 엔티티 삭제 및 오늘 스냅샷 무효화
         coupleRepository.delete(couple);
+        todaySnapshotCache.evict(couple.getId());
+        archiveMonthCache.evictSince(couple.getId(), couple.getStartDate());
+        revealResolver.evict(user.getId(), partner.getId());
+        authContextCache.evict(user.getId(), partner.getId());
+
+        // 4. 질문 덱 삭제
+        try {
+            questionDeckService.deleteDeck(couple.getId());
+        } catch (DataAccessException e) {
+            log.warn("[BREAKUP] 커플(ID:{}) 질문 덱 삭제 실패: {}", couple.getId(), e.getMessage());
+        }
 
         log.info("[BREAKUP] 커플(ID:{})의 모든 기록이 성공적으로 삭제되었습니다.", couple.getId());
         
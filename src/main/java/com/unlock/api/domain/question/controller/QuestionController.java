@@ -2,6 +2,7 @@ package com.unlock.api.domain.question.controller;
 
 import com.unlock.api.common.dto.ApiCommonResponse;
 import com.unlock.api.common.security.annotation.CurrentUser;
+import com.unlock.api.common.security.auth.AuthContext;
 import com.unlock.api.domain.question.dto.QuestionDto.QuestionResponse;
 import com.unlock.api.domain.question.service.QuestionService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -30,7 +31,7 @@ public class QuestionController {
     @ApiResponse(responseCode = "200", description = "조회 성공",
             content = @Content(schema = @Schema(implementation = QuestionResponse.class)))
     @GetMapping("/today")
-    public ApiCommonResponse<QuestionResponse> getTodayQuestion(@Parameter(hidden = true) @CurrentUser Long userId) {
-        return ApiCommonResponse.success("오늘의 질문 조회 성공", questionService.getTodayQuestion(userId));
+    public ApiCommonResponse<QuestionResponse> getTodayQuestion(@Parameter(hidden = true) @CurrentUser AuthContext context) {
+        return ApiCommonResponse.success("오늘의 질문 조회 성공", questionService.getTodayQuestion(context));
     }
 }
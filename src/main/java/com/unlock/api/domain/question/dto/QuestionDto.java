@@ -2,9 +2,12 @@ package com.unlock.api.domain.question.dto;
 
 import com.unlock.api.domain.question.entity.QuestionCategory;
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.LocalDate;
+
 /**
  * 질문 관련 데이터 전송 객체
  */
@@ -27,4 +30,18 @@ public class QuestionDto {
         @Schema(description = "현재 사용자의 답변 완료 여부", example = "true")
         private boolean isAnswered;
     }
+
+    /**
+     * 커플별 최신 배정 질문 및 답변 현황 (스케줄러 내부용 Querydsl Projection)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class CoupleQuestionStatus {
+        private Long coupleId;
+        private Long coupleQuestionId;
+        private Long questionId;
+        private LocalDate assignedDate;
+        private Boolean user1Answered;
+        private Boolean user2Answered;
+    }
 }
\ No newline at end of file
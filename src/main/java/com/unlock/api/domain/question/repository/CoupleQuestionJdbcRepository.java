@@ -0,0 +1,88 @@
+package com.unlock.api.domain.question.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 스케줄러 일괄 배정을 위한 JDBC 기반 레포지토리
+ * 커플 여러 쌍의 신규 질문 추첨과 배정 기록 저장을 건별 쿼리 없이 집합 단위로 처리합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CoupleQuestionJdbcRepository {
+
+    private static final String PICK_RANDOM_SQL =
+            "SELECT c.id AS couple_id, " +
+            "       (SELECT q.id FROM questions q " +
+            "         WHERE NOT EXISTS (SELECT 1 FROM couple_questions cq " +
+            "                            WHERE cq.couple_id = c.id AND cq.question_id = q.id) " +
+            "         ORDER BY random() LIMIT 1) AS question_id " +
+            "FROM couples c WHERE c.id IN (:coupleIds)";
+
+    private static final String FIND_ASSIGNED_SQL =
+            "SELECT couple_id FROM couple_questions WHERE (couple_id, question_id) IN (:pairs)";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO couple_questions (couple_id, question_id, assigned_date, created_at, updated_at) " +
+            "VALUES (:coupleId, :questionId, :assignedDate, :now, :now)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 커플별로 아직 배정받지 않은 질문 중 하나를 랜덤 추첨합니다.
+     * @return 커플 ID -> 질문 ID (더 이상 배정할 질문이 없는 커플은 제외)
+     */
+    public Map<Long, Long> pickRandomUnassignedQuestions(List<Long> coupleIds) {
+        Map<Long, Long> picks = new HashMap<>();
+        jdbcTemplate.query(PICK_RANDOM_SQL, new MapSqlParameterSource("coupleIds", coupleIds), rs -> {
+            long questionId = rs.getLong("question_id");
+            if (!rs.wasNull()) {
+                picks.put(rs.getLong("couple_id"), questionId);
+            }
+        });
+        return picks;
+    }
+
+    /**
+     * (커플, 질문) 쌍 중 이미 배정 기록이 있는 커플을 조회합니다. (uk_couple_questions_couple_question 사용)
+     * @return 이미 해당 질문을 배정받은 커플 ID
+     */
+    public Set<Long> findAlreadyAssigned(Map<Long, Long> questionIdByCoupleId) {
+        Set<Long> assigned = new HashSet<>();
+        if (questionIdByCoupleId.isEmpty()) return assigned;
+        List<Object[]> pairs = questionIdByCoupleId.entrySet().stream()
+                .map(e -> new Object[]{e.getKey(), e.getValue()})
+                .toList();
+        jdbcTemplate.query(FIND_ASSIGNED_SQL, new MapSqlParameterSource("pairs", pairs),
+                rs -> {
+                    assigned.add(rs.getLong("couple_id"));
+                });
+        return assigned;
+    }
+
+    /**
+     * 신규 배정 기록을 JDBC 배치 INSERT로 한 번에 저장합니다.
+     */
+    public void insertAll(Map<Long, Long> questionIdByCoupleId, LocalDate assignedDate) {
+        LocalDateTime now = LocalDateTime.now();
+        SqlParameterSource[] batch = questionIdByCoupleId.entrySet().stream()
+                .map(e -> new MapSqlParameterSource()
+                        .addValue("coupleId", e.getKey())
+                        .addValue("questionId", e.getValue())
+                        .addValue("assignedDate", assignedDate)
+                        .addValue("now", now))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+    }
+}
@@ -2,15 +2,17 @@ package com.unlock.api.domain.question.repository;
 
 import com.unlock.api.domain.couple.entity.Couple;
 import com.unlock.api.domain.question.entity.CoupleQuestion;
-import io.lettuce.core.dynamic.annotation.Param;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
-public interface CoupleQuestionRepository extends JpaRepository<CoupleQuestion, Long> {
+public interface CoupleQuestionRepository extends JpaRepository<CoupleQuestion, Long>, CoupleQuestionRepositoryCustom {
     
     /**
      * 특정 커플에게 특정 날짜에 배정된 질문 조회
@@ -18,25 +20,36 @@ public interface CoupleQuestionRepository extends JpaRepository<CoupleQuestion,
     Optional<CoupleQuestion> findByCoupleAndAssignedDate(Couple couple, LocalDate assignedDate);
 
     /**
-     * 특정 커플에게 배정된 모든 질문 조회 (최신순)
+     * 특정 커플에게 배정된 적이 있는 모든 질문 ID 조회 (질문 덱 재생성용)
      */
-    List<CoupleQuestion> findAllByCoupleOrderByAssignedDateDesc(Couple couple);
+    @Query("SELECT cq.question.id FROM CoupleQuestion cq WHERE cq.couple.id = :coupleId")
+    List<Long> findQuestionIdsByCoupleId(@Param("coupleId") Long coupleId);
 
     /**
-     * 특정 커플의 특정 기간(년/월) 질문 배정 기록 조회
+     * 특정 커플의 특정 기간 [from, to) 질문 배정 기록 조회
+     * 날짜 컬럼을 함수로 감싸지 않아 (couple_id, assigned_date) 인덱스 범위 검색이 가능합니다.
      */
     @Query("SELECT cq FROM CoupleQuestion cq WHERE cq.couple = :couple " +
-           "AND YEAR(cq.assignedDate) = :year AND MONTH(cq.assignedDate) = :month " +
+           "AND cq.assignedDate >= :from AND cq.assignedDate < :to " +
            "ORDER BY cq.assignedDate ASC")
-    List<CoupleQuestion> findAllByCoupleAndYearAndMonth(@Param("couple") Couple couple,
-                                                        @Param("year") int year, 
-                                                        @Param("month") int month);
+    List<CoupleQuestion> findAllByCoupleAndDateRange(@Param("couple") Couple couple,
+                                                     @Param("from") LocalDate from,
+                                                     @Param("to") LocalDate to);
 
     /**
      * 특정 커플에게 가장 최근에 배정된 질문 하나 조회
      */
     Optional<CoupleQuestion> findTopByCoupleOrderByAssignedDateDesc(Couple couple);
 
+    /**
+     * 미완료 질문들의 배정 날짜를 일괄 이월 (Carry-over)
+     */
+    @Modifying
+    @Query("UPDATE CoupleQuestion cq SET cq.assignedDate = :assignedDate, cq.updatedAt = :updatedAt WHERE cq.id IN :ids")
+    int carryOverAll(@Param("ids") List<Long> ids,
+                     @Param("assignedDate") LocalDate assignedDate,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+
     /**
      * 특정 커플의 모든 배정 이력 삭제 (커플 해제 시 사용)
      */
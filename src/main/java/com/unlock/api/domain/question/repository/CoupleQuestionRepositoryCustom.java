@@ -0,0 +1,18 @@
+package com.unlock.api.domain.question.repository;
+
+import com.unlock.api.domain.question.dto.QuestionDto.CoupleQuestionStatus;
+
+import java.util.List;
+
+/**
+ * CoupleQuestion 관련 커스텀 쿼리 인터페이스 (Querydsl용)
+ * 이름 규칙: [Repository명] + Custom
+ */
+public interface CoupleQuestionRepositoryCustom {
+
+    /**
+     * 여러 커플 각각의 최신 배정 질문과 두 사람의 답변 여부를 한 번의 쿼리로 조회합니다. (스케줄러 일괄 배정용)
+     * 배정 기록이 없는 커플은 결과에 포함되지 않습니다.
+     */
+    List<CoupleQuestionStatus> findCurrentStatuses(List<Long> coupleIds);
+}
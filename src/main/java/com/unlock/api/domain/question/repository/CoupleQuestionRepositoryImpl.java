@@ -0,0 +1,60 @@
+package com.unlock.api.domain.question.repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.unlock.api.domain.answer.entity.QAnswer;
+import com.unlock.api.domain.couple.entity.QCouple;
+import com.unlock.api.domain.question.dto.QuestionDto.CoupleQuestionStatus;
+import com.unlock.api.domain.question.entity.QCoupleQuestion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * CoupleQuestionRepositoryCustom의 구현체
+ */
+@Repository
+@RequiredArgsConstructor
+public class CoupleQuestionRepositoryImpl implements CoupleQuestionRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<CoupleQuestionStatus> findCurrentStatuses(List<Long> coupleIds) {
+        QCoupleQuestion coupleQuestion = QCoupleQuestion.coupleQuestion;
+        QCoupleQuestion latest = new QCoupleQuestion("latest");
+        QCouple couple = QCouple.couple;
+        QAnswer user1Answer = new QAnswer("user1Answer");
+        QAnswer user2Answer = new QAnswer("user2Answer");
+
+        return queryFactory
+                .select(Projections.constructor(CoupleQuestionStatus.class,
+                        couple.id,
+                        coupleQuestion.id,
+                        coupleQuestion.question.id,
+                        coupleQuestion.assignedDate,
+                        user1Answer.id.isNotNull(),   // user1 답변 여부
+                        user2Answer.id.isNotNull()    // user2 답변 여부
+                ))
+                .from(coupleQuestion)
+                .join(coupleQuestion.couple, couple)
+                .leftJoin(user1Answer).on(
+                        user1Answer.question.eq(coupleQuestion.question)
+                        .and(user1Answer.user.eq(couple.user1))
+                )
+                .leftJoin(user2Answer).on(
+                        user2Answer.question.eq(coupleQuestion.question)
+                        .and(user2Answer.user.eq(couple.user2))
+                )
+                .where(
+                        couple.id.in(coupleIds)
+                        .and(coupleQuestion.assignedDate.eq(
+                                JPAExpressions.select(latest.assignedDate.max())
+                                        .from(latest)
+                                        .where(latest.couple.eq(coupleQuestion.couple))))
+                )
+                .fetch();
+    }
+}
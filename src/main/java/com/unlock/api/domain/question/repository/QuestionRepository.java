@@ -3,10 +3,14 @@ package com.unlock.api.domain.question.repository;
 import com.unlock.api.domain.question.entity.Question;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.util.List;
 
 public interface QuestionRepository extends JpaRepository<Question, Long>, QuestionRepositoryCustom {
 
+    /**
+     * 질문 풀 버전 스탬프 조회 (개수, 최대 ID, 최종 수정 시각 - 질문 풀 캐시 갱신 여부 판단용)
+     */
+    @Query("SELECT COUNT(q), MAX(q.id), MAX(q.updatedAt) FROM Question q")
+    List<Object[]> findVersionStamp();
 }
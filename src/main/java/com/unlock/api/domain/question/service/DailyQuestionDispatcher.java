@@ -0,0 +1,476 @@
+package com.unlock.api.domain.question.service;
+
+import com.unlock.api.domain.auth.entity.NotificationType;
+import com.unlock.api.domain.auth.service.FcmService;
+import com.unlock.api.domain.auth.service.FcmTokenCache;
+import com.unlock.api.domain.auth.service.RedisService;
+import com.unlock.api.domain.couple.entity.Couple;
+import com.unlock.api.domain.couple.repository.CoupleRepository;
+import com.unlock.api.domain.question.service.QuestionService.AssignmentResult;
+import com.unlock.api.domain.user.entity.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 알림 시간이 도래한 커플들에게 질문 배정 및 알림 발송을 병렬로 수행하는 디스패처
+ * - 커플 ID 기준 Keyset 페이지네이션으로 샤드를 나눕니다. (OFFSET 미사용)
+ * - 샤드는 가상 스레드에서 실행되며, 세마포어로 동시 실행 샤드 수를 제한합니다.
+ * - 샤드마다 독립된 트랜잭션으로 커밋되어 한 샤드의 실패가 다른 샤드에 영향을 주지 않습니다.
+ * - 실행 시간 예산을 초과하면 남은 샤드는 시작하지 않고 다음 실행으로 넘깁니다.
+ * - 클러스터 모드에서는 커플을 couple_id % N 버킷으로 나누고, 각 노드가 Redis 리스로 버킷을 나눠 가집니다.
+ *   리스는 처리 중 lease/3 간격으로 연장(Heartbeat)하고, 샤드 커밋 직전에 보유 여부를 다시 확인(Fencing)하여
+ *   잃었으면 롤백하므로, 회수한 노드와 같은 샤드를 중복 커밋(중복 알림)하지 않습니다.
+ *   또한 커밋 직전에 알림 판단을 마친 커플을 Redis에 표시하고(롤백 시 취소), 샤드를 다시 처리할 때 표시된 커플은 알림을 건너뜁니다.
+ *   (커밋과 체크포인트 저장 사이에 노드가 중단되어 다음 소유자가 같은 샤드를 다시 처리하는 경우)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyQuestionDispatcher {
+
+    private final CoupleRepository coupleRepository;
+    private final QuestionService questionService;
+    private final FcmService fcmService;
+    private final FcmTokenCache fcmTokenCache;
+    private final RedisService redisService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${scheduler.dispatch.shard-size}")
+    private int shardSize;
+
+    @Value("${scheduler.dispatch.parallelism}")
+    private int parallelism;
+
+    @Value("${scheduler.dispatch.time-budget-seconds}")
+    private long timeBudgetSeconds;
+
+    @Value("${scheduler.cluster.buckets}")
+    private int bucketCount;
+
+    @Value("${scheduler.cluster.lease-seconds}")
+    private long leaseSeconds;
+
+    // 버킷 리스 소유자 식별자 (노드 인스턴스마다 고유)
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private Counter processedCounter;
+    private Counter failedCounter;
+    private Timer runTimer;
+    private volatile double lastThroughput;
+
+    // 버킷 리스 연장 전용 스레드 (샤드 처리가 길어져도 리스가 만료되지 않도록)
+    private final ScheduledExecutorService leaseHeartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "dispatch-lease-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PreDestroy
+    void stopHeartbeat() {
+        leaseHeartbeat.shutdownNow();
+    }
+
+    @PostConstruct
+    void initMetrics() {
+        processedCounter = meterRegistry.counter("unlock.scheduler.dispatch.couples", "result", "processed");
+        failedCounter = meterRegistry.counter("unlock.scheduler.dispatch.couples", "result", "failed");
+        runTimer = meterRegistry.timer("unlock.scheduler.dispatch.run");
+        Gauge.builder("unlock.scheduler.dispatch.throughput", this, d -> d.lastThroughput)
+                .description("직전 실행의 초당 처리 커플 수")
+                .baseUnit("couples/s")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 특정 알림 시간의 모든 커플을 샤드 단위로 병렬 처리합니다.
+     */
+    public DispatchResult dispatch(LocalTime targetTime) {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.SECONDS.toNanos(timeBudgetSeconds);
+        DispatchResult result = new DispatchResult();
+        Semaphore permits = new Semaphore(parallelism);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Long lastId = 0L;
+            while (true) {
+                List<Long> shard = coupleRepository.findIdsByNotificationTimeAfter(targetTime, lastId, PageRequest.of(0, shardSize));
+                if (shard.isEmpty()) break;
+                lastId = shard.get(shard.size() - 1);
+
+                permits.acquire();
+                if (System.nanoTime() > deadline) {
+                    permits.release();
+                    result.budgetExceeded = true;
+                    log.warn("[스케줄러] 실행 시간 예산({}초) 초과 - 커플(ID:{}) 이후 샤드는 처리하지 않습니다.", timeBudgetSeconds, shard.get(0));
+                    break;
+                }
+
+                result.shardCount.incrementAndGet();
+                executor.submit(() -> {
+                    try {
+                        runShard(shard, result, ShardGuard.NONE);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("[스케줄러 에러] 디스패치 중단됨 (타겟: {})", targetTime);
+        }
+
+        recordRun(startedAt, result);
+        return result;
+    }
+
+    /**
+     * 클러스터 모드 디스패치
+     * 이 노드는 리스를 획득한 버킷만 처리하며, 다른 노드가 중단되어 리스가 만료된 버킷은
+     * 예산 시간 안에 회수하여 체크포인트 이후부터 이어서 처리합니다.
+     */
+    public DispatchResult dispatchClustered(String timeKey, LocalTime targetTime) {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.SECONDS.toNanos(timeBudgetSeconds);
+        long leaseMillis = TimeUnit.SECONDS.toMillis(leaseSeconds);
+        DispatchResult result = new DispatchResult();
+        Semaphore permits = new Semaphore(parallelism);
+
+        // 노드마다 버킷 탐색 순서를 섞어 리스 경합을 줄입니다.
+        List<Integer> buckets = new ArrayList<>();
+        for (int b = 0; b < bucketCount; b++) buckets.add(b);
+        Collections.shuffle(buckets);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (System.nanoTime() < deadline) {
+                Set<Integer> completed = redisService.findCompletedScheduleBuckets(timeKey, buckets);
+                List<Integer> pending = buckets.stream().filter(b -> !completed.contains(b)).toList();
+                if (pending.isEmpty()) break;
+
+                for (int bucket : pending) {
+                    permits.acquire();
+                    if (System.nanoTime() > deadline
+                            || !redisService.acquireScheduleBucket(timeKey, bucket, nodeId, leaseMillis)) {
+                        permits.release();
+                        continue;
+                    }
+                    executor.submit(() -> {
+                        try {
+                            runBucket(timeKey, targetTime, bucket, deadline, leaseMillis, result);
+                        } finally {
+                            redisService.releaseScheduleBucket(timeKey, bucket, nodeId);
+                            permits.release();
+                        }
+                    });
+                }
+
+                // 남은 버킷은 다른 노드가 처리 중이므로, 리스 만료(노드 장애) 여부를 주기적으로 확인합니다.
+                Thread.sleep(Math.max(leaseMillis / 3, 100));
+            }
+            if (System.nanoTime() > deadline) {
+                result.budgetExceeded = true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("[스케줄러 에러] 클러스터 디스패치 중단됨 (타겟: {})", targetTime);
+        }
+
+        recordRun(startedAt, result);
+        return result;
+    }
+
+    /**
+     * 하나의 버킷을 체크포인트 이후부터 샤드 단위로 순차 처리합니다.
+     * 처리 중에는 Heartbeat로 리스를 연장하고, 샤드마다 커밋 직전에 리스를 확인하여 잃었으면 롤백 후 즉시 중단합니다.
+     * 체크포인트는 커밋 이후에 저장되므로, 그 사이 중단되어 샤드가 다시 처리되더라도 알림 완료 표시로 중복 알림을 막습니다.
+     */
+    private void runBucket(String timeKey, LocalTime targetTime, int bucket,
+                           long deadline, long leaseMillis, DispatchResult result) {
+        AtomicBoolean leaseHeld = new AtomicBoolean(true);
+        long heartbeatMillis = Math.max(leaseMillis / 3, 100);
+        ScheduledFuture<?> heartbeat = leaseHeartbeat.scheduleAtFixedRate(() -> {
+            try {
+                if (leaseHeld.get() && !redisService.renewScheduleBucket(timeKey, bucket, nodeId, leaseMillis)) {
+                    leaseHeld.set(false);
+                }
+            } catch (Exception e) {
+                // 일시적인 Redis 오류는 커밋 직전 확인(Fencing)에서 다시 판단
+                log.warn("[스케줄러] 버킷({}) 리스 연장 실패: {}", bucket, e.getMessage());
+            }
+        }, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+
+        ShardGuard guard = new ShardGuard() {
+            @Override
+            public Set<Long> alreadyNotified(List<Long> coupleIds) {
+                return redisService.findScheduleNotified(timeKey, bucket, coupleIds);
+            }
+
+            // 리스를 연장하면서 소유 여부를 함께 검증 (확인할 수 없으면 잃은 것으로 간주) 후 알림 완료 표시
+            @Override
+            public boolean beforeCommit(List<Long> notifiedCoupleIds) {
+                try {
+                    if (!leaseHeld.get() || !redisService.renewScheduleBucket(timeKey, bucket, nodeId, leaseMillis)) {
+                        leaseHeld.set(false);
+                        return false;
+                    }
+                } catch (Exception e) {
+                    log.warn("[스케줄러] 버킷({}) 리스 확인 실패: {}", bucket, e.getMessage());
+                    leaseHeld.set(false);
+                    return false;
+                }
+                try {
+                    redisService.markScheduleNotified(timeKey, bucket, notifiedCoupleIds);
+                } catch (Exception e) {
+                    // 표시 없이 커밋하면 재처리 시 중복 알림이 나갈 수 있으므로 롤백 후 다음 소유자에게 넘김
+                    log.warn("[스케줄러] 버킷({}) 알림 완료 표시 실패: {}", bucket, e.getMessage());
+                    return false;
+                }
+                // 표시 이후 커밋이 실패(롤백)하면 표시를 취소하여 재처리 시 알림이 나가도록 함
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        // 커밋 여부를 알 수 없는(UNKNOWN) 경우는 표시를 유지 (알림 누락보다 중복 알림을 피함)
+                        if (status != STATUS_ROLLED_BACK) return;
+                        try {
+                            redisService.unmarkScheduleNotified(timeKey, bucket, notifiedCoupleIds);
+                        } catch (Exception e) {
+                            log.warn("[스케줄러] 버킷({}) 알림 완료 표시 취소 실패: {}", bucket, e.getMessage());
+                        }
+                    }
+                });
+                return true;
+            }
+        };
+
+        try {
+            long lastId = redisService.getScheduleCheckpoint(timeKey, bucket);
+            while (true) {
+                List<Long> shard = coupleRepository.findIdsByNotificationTimeAndBucketAfter(
+                        targetTime, bucketCount, bucket, lastId, PageRequest.of(0, shardSize));
+                if (shard.isEmpty()) {
+                    redisService.completeScheduleBucket(timeKey, bucket);
+                    return;
+                }
+                if (System.nanoTime() > deadline) {
+                    log.warn("[스케줄러] 실행 시간 예산 초과 - 버킷({}) 커플(ID:{}) 이후는 처리하지 않습니다.", bucket, shard.get(0));
+                    return;
+                }
+
+                result.shardCount.incrementAndGet();
+                if (!runShard(shard, result, guard)) {
+                    log.warn("[스케줄러] 버킷({}) 커밋 전 확인 실패(리스 상실 등)로 샤드(커플 ID {}~) 롤백 - 다른 노드가 체크포인트(ID:{}) 이후를 이어서 처리합니다.",
+                            bucket, shard.get(0), lastId);
+                    return;
+                }
+                lastId = shard.get(shard.size() - 1);
+                redisService.saveScheduleCheckpoint(timeKey, bucket, lastId);
+            }
+        } finally {
+            heartbeat.cancel(false);
+        }
+    }
+
+    /**
+     * 하나의 샤드를 독립 트랜잭션으로 처리합니다.
+     * 이전 실행에서 알림 판단을 마친 커플은 배정만 확인하고 알림은 건너뜁니다.
+     * 커밋 직전에 guard를 확인하여 false이면 롤백합니다. (알림은 커밋 이후에만 큐에 적재되므로 함께 취소됨)
+     * @return guard 실패로 처리하지 않았거나 롤백했으면 false (커밋 실패는 실패 건수로 집계하고 true)
+     */
+    private boolean runShard(List<Long> coupleIds, DispatchResult result, ShardGuard guard) {
+        Set<Long> alreadyNotified;
+        try {
+            alreadyNotified = guard.alreadyNotified(coupleIds);
+        } catch (Exception e) {
+            // 확인 없이 처리하면 중복 알림이 나갈 수 있으므로 이 샤드부터 다음 실행(소유자)에 넘김
+            log.warn("[스케줄러] 샤드(커플 ID {}~) 알림 완료 여부 확인 실패: {}", coupleIds.get(0), e.getMessage());
+            return false;
+        }
+
+        AtomicBoolean fenced = new AtomicBoolean();
+        try {
+            Integer succeeded = transactionTemplate.execute(status -> {
+                List<Couple> couples = coupleRepository.findAllByIdInWithUsers(coupleIds);
+                Map<Long, AssignmentResult> assignments = questionService.assignQuestionsToCouples(couples);
+                // 샤드 내 모든 유저의 FCM 토큰을 한 번에 조회
+                Map<Long, List<String>> tokens = fcmTokenCache.resolveAll(couples.stream()
+                        .filter(c -> !alreadyNotified.contains(c.getId()))
+                        .flatMap(c -> Stream.of(c.getUser1().getId(), c.getUser2().getId()))
+                        .toList());
+                int ok = 0;
+                List<Long> notified = new ArrayList<>();
+                for (Couple couple : couples) {
+                    AssignmentResult assignment = assignments.get(couple.getId());
+                    if (assignment == null) continue;
+                    if (alreadyNotified.contains(couple.getId())) {
+                        ok++;
+                        continue;
+                    }
+                    try {
+                        dispatchCouple(couple, assignment, tokens);
+                        notified.add(couple.getId());
+                        ok++;
+                    } catch (Exception e) {
+                        log.error("[스케줄러 에러] 커플(ID:{}) 처리 실패: {}", couple.getId(), e.getMessage());
+                    }
+                }
+                if (!guard.beforeCommit(notified)) {
+                    fenced.set(true);
+                    status.setRollbackOnly();
+                }
+                return ok;
+            });
+            if (fenced.get()) return false;
+            if (!alreadyNotified.isEmpty()) {
+                log.info("[스케줄러] 샤드(커플 ID {}~) 재처리 - 이미 알림을 보낸 {}쌍은 건너뜀", coupleIds.get(0), alreadyNotified.size());
+            }
+            int ok = succeeded == null ? 0 : succeeded;
+            result.processedCount.addAndGet(ok);
+            result.failedCount.addAndGet(coupleIds.size() - ok);
+            processedCounter.increment(ok);
+            failedCounter.increment(coupleIds.size() - ok);
+        } catch (Exception e) {
+            if (fenced.get()) return false;
+            result.failedCount.addAndGet(coupleIds.size());
+            failedCounter.increment(coupleIds.size());
+            log.error("[스케줄러 에러] 샤드(커플 ID {}~{}) 커밋 실패: {}",
+                    coupleIds.get(0), coupleIds.get(coupleIds.size() - 1), e.getMessage());
+        }
+        return true;
+    }
+
+    /**
+     * 실행 시간 및 처리량 메트릭 기록
+     */
+    private void recordRun(long startedAt, DispatchResult result) {
+        long elapsedNanos = System.nanoTime() - startedAt;
+        runTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        int total = result.getProcessed() + result.getFailed();
+        if (total > 0) {
+            lastThroughput = total / Math.max(elapsedNanos / 1_000_000_000.0, 0.001);
+            log.info("[스케줄러] {}쌍 처리 완료 (성공: {}, 실패: {}, 샤드: {}, 소요: {}ms, {} couples/s)",
+                    total, result.getProcessed(), result.getFailed(), result.getShards(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), String.format("%.1f", lastThroughput));
+        }
+    }
+
+    /**
+     * 커플 한 쌍에 대한 질문 배정 및 상황별 알림 발송
+     */
+    private void dispatchCouple(Couple couple, AssignmentResult assignment, Map<Long, List<String>> tokens) {
+        // 1~2. 질문 배정/이동 처리는 샤드 단위 일괄 배정 결과를 사용
+        boolean isNewQuestionDay = assignment.isNewQuestionDay();
+
+        // 3. 개별 유저별 답변 상태 (일괄 배정 쿼리에서 함께 조회된 값 사용)
+        boolean user1Finished = assignment.isUser1Answered();
+        boolean user2Finished = assignment.isUser2Answered();
+
+        // 4. 상황별 타겟 알림 발송
+        if (user1Finished && user2Finished) {
+            log.info("[SKIP] 커플(ID:{}) - 두 분 모두 답변을 완료하여 알림을 보내지 않습니다.", couple.getId());
+            return;
+        }
+
+        // [Case 1] 오늘 처음 질문이 배정되었거나 이동해온 경우 (둘 다 안 썼을 확률 높음)
+        if (isNewQuestionDay && !user1Finished && !user2Finished) {
+            fcmService.sendToUser(couple.getUser1(), tokensOf(tokens, couple.getUser1()), "un:lock 🔓", "오늘의 새로운 질문이 도착했습니다! 확인해 보세요.", NotificationType.DAILY_QUESTION);
+            fcmService.sendToUser(couple.getUser2(), tokensOf(tokens, couple.getUser2()), "un:lock 🔓", "오늘의 새로운 질문이 도착했습니다! 확인해 보세요.", NotificationType.DAILY_QUESTION);
+        } else {
+            if (!user1Finished) {
+                String msg = user2Finished ? "파트너가 답변을 기다리고 있어요! 🔓" : "아직 오늘의 질문에 답변하지 않으셨어요! 🔔";
+                fcmService.sendToUser(couple.getUser1(), tokensOf(tokens, couple.getUser1()), "un:lock 🔔", msg, NotificationType.DAILY_QUESTION);
+            }
+            if (!user2Finished) {
+                String msg = user1Finished ? "파트너가 답변을 기다리고 있어요! 🔓" : "아직 오늘의 질문에 답변하지 않으셨어요! 🔔";
+                fcmService.sendToUser(couple.getUser2(), tokensOf(tokens, couple.getUser2()), "un:lock 🔔", msg, NotificationType.DAILY_QUESTION);
+            }
+        }
+    }
+
+    private List<String> tokensOf(Map<Long, List<String>> tokens, User user) {
+        return tokens.getOrDefault(user.getId(), List.of());
+    }
+
+    /**
+     * 샤드 재처리 대비 확인 (클러스터 모드: 리스 확인 + 알림 완료 표시, 단일 모드: 확인 없음)
+     */
+    private interface ShardGuard {
+
+        ShardGuard NONE = new ShardGuard() {
+            @Override
+            public Set<Long> alreadyNotified(List<Long> coupleIds) {
+                return Set.of();
+            }
+
+            @Override
+            public boolean beforeCommit(List<Long> notifiedCoupleIds) {
+                return true;
+            }
+        };
+
+        /**
+         * 이전 실행에서 알림 판단까지 마친 커플 (트랜잭션 시작 전 호출)
+         */
+        Set<Long> alreadyNotified(List<Long> coupleIds);
+
+        /**
+         * 커밋 직전 호출 (트랜잭션 안)
+         * @return false이면 샤드를 롤백
+         */
+        boolean beforeCommit(List<Long> notifiedCoupleIds);
+    }
+
+    /**
+     * 한 번의 디스패치 실행 결과
+     */
+    public static class DispatchResult {
+        private final AtomicInteger processedCount = new AtomicInteger();
+        private final AtomicInteger failedCount = new AtomicInteger();
+        private final AtomicInteger shardCount = new AtomicInteger();
+        private boolean budgetExceeded;
+
+        public int getProcessed() {
+            return processedCount.get();
+        }
+
+        public int getFailed() {
+            return failedCount.get();
+        }
+
+        public int getShards() {
+            return shardCount.get();
+        }
+
+        public boolean isBudgetExceeded() {
+            return budgetExceeded;
+        }
+    }
+}
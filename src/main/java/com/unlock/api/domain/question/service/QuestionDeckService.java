@@ -0,0 +1,224 @@
+package com.unlock.api.domain.question.service;
+
+import com.unlock.api.domain.question.repository.CoupleQuestionRepository;
+import com.unlock.api.domain.question.service.QuestionPool.PooledQuestion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 커플별 질문 덱(Deck) 관리 서비스
+ * 커플이 아직 받지 않은 질문 ID를 미리 섞어 Redis 리스트(DECK:{coupleId})에 보관하고,
+ * 배정 시에는 LPOP 한 번(O(1))으로 다음 질문을 꺼냅니다. (ORDER BY random() 전체 정렬 제거)
+ * - 카테고리별로 따로 섞은 뒤 번갈아 쌓아, 연속된 날에 같은 카테고리가 몰리지 않도록 합니다.
+ * - DECK_HWM:{coupleId}에 덱에 반영된 최대 질문 ID를 기록하여, 새 질문이 풀에 추가되면 그 이후 질문만 보충합니다.
+ * - 덱이 없거나(기존 커플, Redis 초기화) 소진된 경우 DB 배정 이력으로부터 다시 생성합니다.
+ * - 꺼낸 질문은 배정 트랜잭션이 롤백되면 덱 앞에 되돌려 넣어, 롤백된 샤드의 질문이 덱에서 사라지지 않도록 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuestionDeckService {
+
+    private static final String DECK_PREFIX = "DECK:";
+    private static final String HWM_PREFIX = "DECK_HWM:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final QuestionPool questionPool;
+    private final CoupleQuestionRepository coupleQuestionRepository;
+
+    /**
+     * 커플 생성 시 전체 질문 풀로 덱을 생성합니다.
+     */
+    public void createDeck(Long coupleId) {
+        long maxId = questionPool.getMaxId();
+        List<Long> deck = shuffleByCategory(0L, Set.of());
+        replaceDeck(coupleId, deck, maxId);
+        log.info("[DECK] 커플(ID:{}) 질문 덱 생성 완료: {}개", coupleId, deck.size());
+    }
+
+    /**
+     * 커플의 다음 질문 ID를 꺼냅니다.
+     * @return 더 이상 배정할 질문이 없으면 empty
+     */
+    public Optional<Long> draw(Long coupleId) {
+        return Optional.ofNullable(drawAll(List.of(coupleId)).get(coupleId));
+    }
+
+    /**
+     * 여러 커플의 다음 질문 ID를 한 번에 꺼냅니다. (스케줄러 샤드 단위)
+     * 보충 여부 확인과 LPOP은 각각 파이프라인 한 번으로 처리합니다.
+     * 트랜잭션 안에서 호출되면, 롤백 시 꺼낸 질문을 덱 앞에 되돌려 넣습니다.
+     * @return 커플 ID -> 질문 ID (배정할 질문이 없는 커플은 제외)
+     */
+    public Map<Long, Long> drawAll(List<Long> coupleIds) {
+        Map<Long, Long> picks = new HashMap<>();
+        if (coupleIds.isEmpty()) return picks;
+
+        long maxId = questionPool.getMaxId();
+        refillIfNeeded(coupleIds, maxId);
+
+        List<Object> popped = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            coupleIds.forEach(id -> connection.listCommands().lPop(key(DECK_PREFIX, id)));
+            return null;
+        });
+
+        for (int i = 0; i < coupleIds.size(); i++) {
+            Long coupleId = coupleIds.get(i);
+            Object value = popped.get(i);
+            if (value != null) {
+                picks.put(coupleId, Long.parseLong((String) value));
+                continue;
+            }
+            // 덱 소진: DB 이력 기준으로 다시 만들어 한 번 더 시도
+            rebuildDeck(coupleId, maxId);
+            String retry = redisTemplate.opsForList().leftPop(DECK_PREFIX + coupleId);
+            if (retry != null) {
+                picks.put(coupleId, Long.parseLong(retry));
+            }
+        }
+        restoreOnRollback(picks);
+        return picks;
+    }
+
+    /**
+     * 덱 밖(DB 추첨)에서 배정한 질문을 덱에서 제거하여 나중에 다시 꺼내지 않도록 합니다.
+     * Redis 장애로 DB 추첨을 한 경우에도 호출되므로 실패는 로그만 남깁니다. (이미 배정된 질문은 배정 시점에도 다시 걸러냄)
+     */
+    public void discard(Map<Long, Long> questionIdByCoupleId) {
+        if (questionIdByCoupleId.isEmpty()) return;
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                questionIdByCoupleId.forEach((coupleId, questionId) -> connection.listCommands()
+                        .lRem(key(DECK_PREFIX, coupleId), 0, String.valueOf(questionId).getBytes(StandardCharsets.UTF_8)));
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("[DECK] 덱에서 배정 질문 제거 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 트랜잭션이 롤백되면 꺼낸 질문을 각 커플 덱의 앞에 되돌려 넣습니다.
+     */
+    private void restoreOnRollback(Map<Long, Long> picks) {
+        if (picks.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) return;
+        Map<Long, Long> popped = Map.copyOf(picks);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) return;
+                try {
+                    redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                        popped.forEach((coupleId, questionId) -> connection.listCommands()
+                                .lPush(key(DECK_PREFIX, coupleId), String.valueOf(questionId).getBytes(StandardCharsets.UTF_8)));
+                        return null;
+                    });
+                    log.info("[DECK] 배정 롤백으로 질문 {}개를 덱에 되돌림", popped.size());
+                } catch (DataAccessException e) {
+                    log.warn("[DECK] 롤백된 질문 되돌리기 실패 (다음 덱 재생성 시 복구): {}", e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * 커플 해제 시 덱 삭제
+     */
+    public void deleteDeck(Long coupleId) {
+        redisTemplate.delete(List.of(DECK_PREFIX + coupleId, HWM_PREFIX + coupleId));
+    }
+
+    /**
+     * 덱이 없는 커플은 새로 만들고, 질문 풀에 새 질문이 추가된 커플은 추가분만 덱 뒤에 보충합니다.
+     */
+    private void refillIfNeeded(List<Long> coupleIds, long maxId) {
+        List<Object> marks = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            coupleIds.forEach(id -> connection.stringCommands().get(key(HWM_PREFIX, id)));
+            return null;
+        });
+
+        for (int i = 0; i < coupleIds.size(); i++) {
+            Long coupleId = coupleIds.get(i);
+            Object mark = marks.get(i);
+            if (mark == null) {
+                rebuildDeck(coupleId, maxId);
+                continue;
+            }
+            long hwm = Long.parseLong((String) mark);
+            if (hwm >= maxId) continue;
+
+            List<Long> extra = shuffleByCategory(hwm, Set.of());
+            if (!extra.isEmpty()) {
+                redisTemplate.opsForList().rightPushAll(DECK_PREFIX + coupleId, extra.stream().map(String::valueOf).toList());
+            }
+            redisTemplate.opsForValue().set(HWM_PREFIX + coupleId, String.valueOf(maxId));
+            log.info("[DECK] 커플(ID:{}) 신규 질문 {}개 보충", coupleId, extra.size());
+        }
+    }
+
+    /**
+     * DB 배정 이력을 기준으로 아직 받지 않은 질문들로 덱을 다시 생성합니다.
+     */
+    private void rebuildDeck(Long coupleId, long maxId) {
+        Set<Long> assigned = new HashSet<>(coupleQuestionRepository.findQuestionIdsByCoupleId(coupleId));
+        List<Long> deck = shuffleByCategory(0L, assigned);
+        replaceDeck(coupleId, deck, maxId);
+        log.info("[DECK] 커플(ID:{}) 질문 덱 재생성: {}개", coupleId, deck.size());
+    }
+
+    private void replaceDeck(Long coupleId, List<Long> deck, long maxId) {
+        String deckKey = DECK_PREFIX + coupleId;
+        redisTemplate.delete(deckKey);
+        if (!deck.isEmpty()) {
+            redisTemplate.opsForList().rightPushAll(deckKey, deck.stream().map(String::valueOf).toList());
+        }
+        redisTemplate.opsForValue().set(HWM_PREFIX + coupleId, String.valueOf(maxId));
+    }
+
+    /**
+     * 질문 풀 캐시의 카테고리 인덱스에서 afterId 이후 질문들을 카테고리별로 섞은 뒤,
+     * 카테고리를 번갈아 가며 하나씩 꺼내 덱을 구성합니다.
+     */
+    private List<Long> shuffleByCategory(long afterId, Set<Long> excluded) {
+        List<List<Long>> piles = new ArrayList<>();
+        for (List<PooledQuestion> questions : questionPool.getByCategory().values()) {
+            List<Long> pile = new ArrayList<>();
+            for (PooledQuestion question : questions) {
+                if (question.getId() > afterId && !excluded.contains(question.getId())) pile.add(question.getId());
+            }
+            if (pile.isEmpty()) continue;
+            Collections.shuffle(pile);
+            piles.add(pile);
+        }
+        Collections.shuffle(piles);
+
+        int total = piles.stream().mapToInt(List::size).sum();
+        List<Long> deck = new ArrayList<>(total);
+        for (int i = 0; deck.size() < total; i++) {
+            for (List<Long> pile : piles) {
+                if (i < pile.size()) deck.add(pile.get(i));
+            }
+        }
+        return deck;
+    }
+
+    private static byte[] key(String prefix, Long coupleId) {
+        return (prefix + coupleId).getBytes(StandardCharsets.UTF_8);
+    }
+}
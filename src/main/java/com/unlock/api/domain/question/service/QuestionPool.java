@@ -0,0 +1,148 @@
+package com.unlock.api.domain.question.service;
+
+import com.unlock.api.domain.question.entity.Question;
+import com.unlock.api.domain.question.entity.QuestionCategory;
+import com.unlock.api.domain.question.repository.QuestionRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 질문 풀 인메모리 캐시
+ * questions 테이블은 작고 거의 추가만 일어나므로, 전체를 불변 스냅샷(ID 맵 + 카테고리별 인덱스)으로 메모리에 보관합니다.
+ * 질문 내용이 필요한 조회 API는 Hibernate를 거치지 않고 이 스냅샷에서 질문을 꺼내 응답을 만듭니다.
+ * 주기적으로 버전 스탬프(개수, 최대 ID, 최종 수정 시각)만 조회하여, 값이 바뀐 경우에만 스냅샷 전체를 교체합니다.
+ * 스냅샷의 최대 ID보다 큰 질문(갱신 주기 사이에 추가된 질문, 예: DB 랜덤 추첨으로 배정)을 조회하면 그 자리에서 갱신 여부를 확인합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuestionPool {
+
+    private final QuestionRepository questionRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 기동 완료 시 (초기 질문 데이터 생성 이후) 스냅샷 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        refresh();
+    }
+
+    /**
+     * 버전 스탬프가 바뀐 경우에만 스냅샷 재적재
+     */
+    @Scheduled(fixedDelayString = "${question.pool.refresh-interval-ms}")
+    public void refreshIfChanged() {
+        Snapshot current = snapshot;
+        if (current == null || !current.version.equals(loadVersion())) {
+            refresh();
+        }
+    }
+
+    /**
+     * 스냅샷 강제 재적재 (질문 추가/수정 직후 호출)
+     */
+    public synchronized void refresh() {
+        String version = loadVersion();
+        Map<Long, PooledQuestion> byId = new HashMap<>();
+        Map<QuestionCategory, List<PooledQuestion>> byCategory = new EnumMap<>(QuestionCategory.class);
+        long maxId = 0L;
+
+        for (Question question : questionRepository.findAll()) {
+            PooledQuestion pooled = new PooledQuestion(question.getId(), question.getContent(), question.getCategory());
+            byId.put(pooled.getId(), pooled);
+            byCategory.computeIfAbsent(pooled.getCategory(), c -> new ArrayList<>()).add(pooled);
+            maxId = Math.max(maxId, pooled.getId());
+        }
+        byCategory.replaceAll((category, questions) -> List.copyOf(questions));
+
+        snapshot = new Snapshot(version, Map.copyOf(byId), Collections.unmodifiableMap(byCategory), maxId);
+        log.info("[QUESTION_POOL] 질문 풀 스냅샷 적재 완료: {}개 (version={})", byId.size(), version);
+    }
+
+    /**
+     * ID로 질문 조회
+     */
+    public Optional<PooledQuestion> find(Long questionId) {
+        return Optional.ofNullable(lookup(questionId));
+    }
+
+    public boolean contains(Long questionId) {
+        return lookup(questionId) != null;
+    }
+
+    /**
+     * 스냅샷에 없고 최대 ID보다 큰 질문이면 새로 추가된 질문일 수 있으므로 버전 스탬프를 확인 후 다시 조회합니다.
+     * (최대 ID 이하의 미스는 삭제된 질문이므로 DB를 조회하지 않음)
+     */
+    private PooledQuestion lookup(Long questionId) {
+        if (questionId == null) return null;
+        Snapshot current = current();
+        PooledQuestion question = current.byId.get(questionId);
+        if (question != null || questionId <= current.maxId) return question;
+
+        refreshIfChanged();
+        return snapshot.byId.get(questionId);
+    }
+
+    /**
+     * 카테고리별 질문 목록 (불변)
+     */
+    public Map<QuestionCategory, List<PooledQuestion>> getByCategory() {
+        return current().byCategory;
+    }
+
+    /**
+     * 질문 풀의 가장 큰 질문 ID
+     */
+    public long getMaxId() {
+        return current().maxId;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            refresh();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private String loadVersion() {
+        Object[] stamp = questionRepository.findVersionStamp().get(0);
+        return stamp[0] + ":" + Objects.toString(stamp[1], "0") + ":" + Objects.toString(stamp[2], "-");
+    }
+
+    private record Snapshot(String version,
+                            Map<Long, PooledQuestion> byId,
+                            Map<QuestionCategory, List<PooledQuestion>> byCategory,
+                            long maxId) {
+    }
+
+    /**
+     * 캐시된 질문 (불변)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class PooledQuestion {
+        private final Long id;
+        private final String content;
+        private final QuestionCategory category;
+    }
+}
@@ -2,22 +2,38 @@ package com.unlock.api.domain.question.service;
 
 import com.unlock.api.common.exception.BusinessException;
 import com.unlock.api.common.exception.ErrorCode;
+import com.unlock.api.common.security.auth.AuthContext;
 import com.unlock.api.domain.answer.repository.AnswerRepository;
+import com.unlock.api.domain.answer.service.ArchiveMonthCache;
 import com.unlock.api.domain.couple.entity.Couple;
+import com.unlock.api.domain.question.dto.QuestionDto.CoupleQuestionStatus;
 import com.unlock.api.domain.question.dto.QuestionDto.QuestionResponse;
 import com.unlock.api.domain.question.entity.CoupleQuestion;
 import com.unlock.api.domain.question.entity.Question;
+import com.unlock.api.domain.question.repository.CoupleQuestionJdbcRepository;
 import com.unlock.api.domain.question.repository.CoupleQuestionRepository;
 import com.unlock.api.domain.question.repository.QuestionRepository;
-import com.unlock.api.domain.user.entity.User;
-import com.unlock.api.domain.user.repository.UserRepository;
+import com.unlock.api.domain.question.service.QuestionPool.PooledQuestion;
+import com.unlock.api.domain.question.service.TodaySnapshotCache.TodaySnapshot;
+import lombok.Builder;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 질문 조회 및 랜덤 배정 로직 담당 서비스
@@ -30,29 +46,30 @@ public class QuestionService {
 
     private final QuestionRepository questionRepository;
     private final CoupleQuestionRepository coupleQuestionRepository;
+    private final CoupleQuestionJdbcRepository coupleQuestionJdbcRepository;
     private final AnswerRepository answerRepository;
-    private final UserRepository userRepository;
+    private final QuestionDeckService questionDeckService;
+    private final QuestionPool questionPool;
+    private final TodaySnapshotCache todaySnapshotCache;
+    private final ArchiveMonthCache archiveMonthCache;
 
     /**
      * 오늘의 질문 조회 (유저용 API)
      * [수정]: 데이터를 변경(이월)하지 않고, 가장 최근에 배정된 질문을 그대로 보여줍니다.
+     * 질문 내용은 질문 풀 캐시에서, 답변 여부는 커플의 오늘 스냅샷 캐시에서 가져옵니다.
      */
     @Transactional(readOnly = true)
-    public QuestionResponse getTodayQuestion(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    public QuestionResponse getTodayQuestion(AuthContext context) {
+        Long userId = context.userId();
+        // 1. 날짜와 상관없이 이 커플에게 배정된 가장 마지막 질문 (스냅샷 캐시)
+        TodaySnapshot snapshot = todaySnapshotCache.get(context);
+        if (snapshot.getQuestionId() == null) throw new BusinessException(ErrorCode.QUESTION_NOT_FOUND);
 
-        Couple couple = user.getCouple();
-        if (couple == null) throw new BusinessException(ErrorCode.COUPLE_NOT_FOUND);
-
-        // 1. 날짜와 상관없이 이 커플에게 배정된 가장 마지막 질문 조회
-        CoupleQuestion lastRecord = coupleQuestionRepository.findTopByCoupleOrderByAssignedDateDesc(couple)
+        PooledQuestion pooled = questionPool.find(snapshot.getQuestionId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.QUESTION_NOT_FOUND));
+        boolean isAnswered = snapshot.member(userId).getAnswerId() != null;
 
-        Question question = lastRecord.getQuestion();
-        boolean isAnswered = answerRepository.existsByUserAndQuestion(user, question);
-
-        return convertToResponse(question, isAnswered);
+        return convertToResponse(pooled, isAnswered);
     }
 
     /**
@@ -80,14 +97,16 @@ public class QuestionService {
 
             if (!(user1Finished && user2Finished)) {
                 log.info("[SCHEDULE] 커플(ID:{}) 미완료 질문 발견 -> 날짜를 {}로 이월", couple.getId(), today);
+                todaySnapshotCache.evict(couple.getId());
+                archiveMonthCache.evict(couple.getId(), YearMonth.from(last.getAssignedDate()), YearMonth.from(today));
                 last.updateAssignedDate(today);
                 return last.getQuestion();
             }
         }
 
-        // 3. [신규 배정]: 이월할 질문이 없다면 새로운 질문 랜덤 추출
-        Question randomQuestion = questionRepository.findRandomQuestionNotAssignedToCouple(couple.getId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.QUESTION_NOT_FOUND));
+        // 3. [신규 배정]: 이월할 질문이 없다면 커플 덱에서 다음 질문 추출
+        Question randomQuestion = pickNewQuestions(List.of(couple.getId())).get(couple.getId());
+        if (randomQuestion == null) throw new BusinessException(ErrorCode.QUESTION_NOT_FOUND);
 
         CoupleQuestion newAssignment = CoupleQuestion.builder()
                 .couple(couple)
@@ -96,14 +115,161 @@ public class QuestionService {
                 .build();
         
         coupleQuestionRepository.save(newAssignment);
+        todaySnapshotCache.evict(couple.getId());
+        archiveMonthCache.evict(couple.getId(), YearMonth.from(today));
         log.info("[SCHEDULE] 커플(ID:{}) 새로운 질문 배정 완료: {}", couple.getId(), randomQuestion.getId());
         return randomQuestion;
     }
 
     /**
-     * Entity -> DTO 변환
+     * 여러 커플에게 질문 일괄 배정 (스케줄러 전용)
+     * assignQuestionToCouple과 동일한 규칙(중복 방지 -> 이월 -> 신규 배정)을 커플마다 쿼리를 반복하지 않고
+     * 집합 단위 쿼리 몇 번으로 처리합니다.
+     * 1. 커플별 최신 배정 기록과 두 사람의 답변 여부를 단일 쿼리로 조회 (오늘 날짜면 그대로 사용)
+     * 2. 미완료 질문 일괄 이월 (UPDATE 1회)
+     * 3. 나머지 커플의 신규 질문을 덱에서 일괄 추출 및 JDBC 배치 INSERT
+     * 알림 판단에 필요한 답변 여부도 결과에 함께 담아, 이후 커플별 추가 조회가 필요 없도록 합니다.
+     *
+     * @return 커플 ID -> 배정 결과 (배정할 질문이 남아있지 않은 커플은 제외)
+     */
+    public Map<Long, AssignmentResult> assignQuestionsToCouples(List<Couple> couples) {
+        Map<Long, AssignmentResult> results = new HashMap<>();
+        if (couples.isEmpty()) return results;
+
+        LocalDate today = LocalDate.now();
+        List<Long> coupleIds = couples.stream().map(Couple::getId).toList();
+
+        // 1. 커플별 최신 배정 기록 + 답변 여부 (동일 날짜가 여러 건이면 ID가 가장 큰 기록)
+        Map<Long, CoupleQuestionStatus> statusByCouple = coupleQuestionRepository.findCurrentStatuses(coupleIds).stream()
+                .collect(Collectors.toMap(CoupleQuestionStatus::getCoupleId, Function.identity(),
+                        (a, b) -> a.getCoupleQuestionId() >= b.getCoupleQuestionId() ? a : b));
+
+        List<Long> carryOverIds = new ArrayList<>();
+        List<Long> needNewQuestion = new ArrayList<>();
+        // 월간 아카이브 무효화 대상 (이월: 기존 월 + 이번 달, 신규: 이번 달)
+        Map<Long, List<YearMonth>> changedMonths = new HashMap<>();
+        for (Long coupleId : coupleIds) {
+            CoupleQuestionStatus last = statusByCouple.get(coupleId);
+            if (last == null) {
+                needNewQuestion.add(coupleId);
+                continue;
+            }
+            boolean user1Finished = Boolean.TRUE.equals(last.getUser1Answered());
+            boolean user2Finished = Boolean.TRUE.equals(last.getUser2Answered());
+            Question question = questionRepository.getReferenceById(last.getQuestionId());
+
+            // 이미 오늘 배정된 질문이 있다면 그대로 사용 (중복 방지)
+            if (last.getAssignedDate().equals(today)) {
+                results.put(coupleId, AssignmentResult.of(question, false, user1Finished, user2Finished));
+                continue;
+            }
+            if (!(user1Finished && user2Finished)) {
+                carryOverIds.add(last.getCoupleQuestionId());
+                changedMonths.put(coupleId, List.of(YearMonth.from(last.getAssignedDate()), YearMonth.from(today)));
+                results.put(coupleId, AssignmentResult.of(question, true, user1Finished, user2Finished));
+            } else {
+                needNewQuestion.add(coupleId);
+            }
+        }
+
+        // 2. [질문 이월 로직]: 미완료 질문들의 날짜를 오늘로 일괄 갱신
+        if (!carryOverIds.isEmpty()) {
+            coupleQuestionRepository.carryOverAll(carryOverIds, today, LocalDateTime.now());
+        }
+
+        // 3. [신규 배정]: 커플 덱에서 추출 후 배치 INSERT (새 질문이므로 두 사람 모두 미답변)
+        Map<Long, Question> picks = pickNewQuestions(needNewQuestion);
+        if (!picks.isEmpty()) {
+            coupleQuestionJdbcRepository.insertAll(picks.entrySet().stream()
+                    .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().getId())), today);
+            picks.forEach((coupleId, question) -> {
+                results.put(coupleId, AssignmentResult.of(question, true, false, false));
+                changedMonths.put(coupleId, List.of(YearMonth.from(today)));
+            });
+        }
+        needNewQuestion.stream()
+                .filter(coupleId -> !picks.containsKey(coupleId))
+                .forEach(coupleId -> log.error("[SCHEDULE] 커플(ID:{}) 배정 가능한 질문이 없습니다.", coupleId));
+
+        // 이월/신규 배정된 커플의 오늘 스냅샷, 월간 아카이브 무효화 (커밋 이후)
+        todaySnapshotCache.evictAll(changedMonths.keySet());
+        archiveMonthCache.evictAll(changedMonths);
+
+        log.info("[SCHEDULE] 일괄 배정 완료 - 대상: {}쌍, 이월: {}쌍, 신규: {}쌍",
+                couples.size(), carryOverIds.size(), picks.size());
+        return results;
+    }
+
+    /**
+     * 커플별 신규 질문 추출
+     * 기본적으로 Redis 질문 덱에서 꺼내고, Redis 장애 시 또는 꺼낸 질문이 삭제되었거나 이미 배정된 경우에는 DB 랜덤 추첨으로 대체합니다.
+     * DB 추첨으로 배정한 질문은 덱에서 제거하여 이후 같은 질문이 다시 나오지 않도록 합니다.
+     * 질문 존재 여부는 질문 풀 캐시로 확인하고, 엔티티는 프록시 참조만 사용합니다.
+     * @return 커플 ID -> 질문 (배정할 질문이 남아있지 않은 커플은 제외)
+     */
+    private Map<Long, Question> pickNewQuestions(List<Long> coupleIds) {
+        if (coupleIds.isEmpty()) return Map.of();
+
+        Map<Long, Long> picks;
+        try {
+            picks = questionDeckService.drawAll(coupleIds);
+        } catch (DataAccessException e) {
+            log.warn("[SCHEDULE] 질문 덱 조회 실패, DB 랜덤 추첨으로 대체합니다. 사유: {}", e.getMessage());
+            Map<Long, Long> fallback = coupleQuestionJdbcRepository.pickRandomUnassignedQuestions(coupleIds);
+            questionDeckService.discard(fallback);
+            return toQuestions(fallback);
+        }
+
+        // 덱에 남아있던 질문이 그 사이 삭제되었거나, 덱 밖에서 이미 배정된 경우
+        Set<Long> alreadyAssigned = coupleQuestionJdbcRepository.findAlreadyAssigned(picks);
+        Map<Long, Long> valid = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        picks.forEach((coupleId, questionId) -> {
+            if (questionPool.contains(questionId) && !alreadyAssigned.contains(coupleId)) valid.put(coupleId, questionId);
+            else missing.add(coupleId);
+        });
+
+        if (!missing.isEmpty()) {
+            Map<Long, Long> fallback = coupleQuestionJdbcRepository.pickRandomUnassignedQuestions(missing);
+            questionDeckService.discard(fallback);
+            valid.putAll(fallback);
+        }
+        return toQuestions(valid);
+    }
+
+    private Map<Long, Question> toQuestions(Map<Long, Long> questionIdByCoupleId) {
+        Map<Long, Question> result = new HashMap<>();
+        questionIdByCoupleId.forEach((coupleId, questionId) -> result.put(coupleId, questionRepository.getReferenceById(questionId)));
+        return result;
+    }
+
+    /**
+     * 일괄 배정 결과
+     * isNewQuestionDay: 이번 실행에서 오늘 날짜로 새로 배정되었거나 이월된 경우 true
+     * user1Answered / user2Answered: 배정된 질문에 대한 각 유저의 답변 여부
+     */
+    @Getter
+    @Builder
+    public static class AssignmentResult {
+        private Question question;
+        private boolean isNewQuestionDay;
+        private boolean user1Answered;
+        private boolean user2Answered;
+
+        private static AssignmentResult of(Question question, boolean isNewQuestionDay, boolean user1Answered, boolean user2Answered) {
+            return AssignmentResult.builder()
+                    .question(question)
+                    .isNewQuestionDay(isNewQuestionDay)
+                    .user1Answered(user1Answered)
+                    .user2Answered(user2Answered)
+                    .build();
+        }
+    }
+
+    /**
+     * 캐시된 질문 -> DTO 변환
      */
-    private QuestionResponse convertToResponse(Question question, boolean isAnswered) {
+    private QuestionResponse convertToResponse(PooledQuestion question, boolean isAnswered) {
         return QuestionResponse.builder()
                 .id(question.getId())
                 .content(question.getContent())
@@ -0,0 +1,286 @@
+package com.unlock.api.domain.question.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unlock.api.common.cache.LocalLruCache;
+import com.unlock.api.common.exception.BusinessException;
+import com.unlock.api.common.exception.ErrorCode;
+import com.unlock.api.common.security.auth.AuthContext;
+import com.unlock.api.common.security.util.EncryptedContent;
+import com.unlock.api.domain.answer.dto.AnswerDto.TodayAnswerRow;
+import com.unlock.api.domain.answer.entity.Answer;
+import com.unlock.api.domain.answer.repository.AnswerRepository;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 커플별 "오늘" 화면 스냅샷 캐시 (오늘의 질문 + 두 사람의 답변 현황 + 열람 상태)
+ * - Redis(TODAY:{coupleId})에는 질문 ID, 답변 ID/작성 시각, 열람 여부 같은 메타데이터만 JSON으로 저장합니다. (답변 내용 미저장)
+ * - 답변 내용은 로컬 메모리에만 짧은 TTL로 보관하며(최대 크기 초과 시 LRU 제거), 스냅샷 버전이 바뀌면 사용하지 않습니다.
+ *   복호화는 화면에 보여줄 때 처음 한 번만 일어나고, 그 결과는 같은 항목에서 재사용됩니다. (잠긴 답변은 복호화하지 않음)
+ * - 답변 등록/열람 해제/스케줄러 배정/커플 해제/닉네임 변경 시 커밋 이후 무효화됩니다.
+ * - 유저의 커플 ID는 인증 컨텍스트(AuthContext)의 값을 사용하므로 별도로 보관하지 않습니다.
+ * 스냅샷 버전은 Redis 값에 포함되므로, 다른 노드에서 무효화되어도 로컬 답변 내용이 잘못 사용되지 않습니다.
+ * 무효화 시 세대 번호(TODAY_GEN:{coupleId})를 올리고, 스냅샷 저장은 조회 시작 시점의 세대와 같을 때만 수행하여
+ * 무효화 직전에 DB를 읽은 요청이 오래된 스냅샷을 다시 써넣지 못하도록 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodaySnapshotCache {
+
+    private static final String KEY_PREFIX = "TODAY:";
+    private static final String GEN_PREFIX = "TODAY_GEN:";
+    // 세대 번호가 일치할 때만 스냅샷 저장
+    private static final RedisScript<Long> WRITE_IF_SAME_GEN_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') == ARGV[1] then " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1 end return 0",
+            Long.class);
+    private static final int LOCAL_MAX_ENTRIES = 50_000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final AnswerRepository answerRepository;
+
+    @Value("${today-cache.redis-ttl-hours}")
+    private long redisTtlHours;
+
+    @Value("${today-cache.content-ttl-ms}")
+    private long contentTtlMs;
+
+    // 커플 ID -> 답변 내용 (로컬 전용, 짧은 TTL, 지연 복호화)
+    private final LocalLruCache<Long, ContentEntry> contents = new LocalLruCache<>(LOCAL_MAX_ENTRIES);
+
+    /**
+     * 유저가 속한 커플의 오늘 스냅샷 조회 (Redis 미스 시 DB에서 생성)
+     * 인증 컨텍스트의 커플 ID는 스냅샷의 멤버 여부로 다시 검증하므로, 무효화 직전의 값이어도 안전합니다.
+     */
+    public TodaySnapshot get(AuthContext context) {
+        if (!context.hasCouple()) throw new BusinessException(ErrorCode.COUPLE_NOT_FOUND);
+        TodaySnapshot cached = readRedis(context.coupleId());
+        if (cached != null && cached.member(context.userId()) != null) {
+            return cached;
+        }
+        return load(context.userId(), context.coupleId());
+    }
+
+    /**
+     * 스냅샷에 포함된 답변들의 내용 조회 (복호화는 호출 측에서 필요한 답변만)
+     * 로컬 캐시에 같은 버전의 내용이 있으면 사용하고, 없으면 ID로 한 번에 조회합니다.
+     * @return 답변 ID -> 답변 내용
+     */
+    public Map<Long, EncryptedContent> getAnswerContents(TodaySnapshot snapshot) {
+        ContentEntry entry = contents.get(snapshot.getCoupleId());
+        if (entry != null && entry.version().equals(snapshot.getVersion())) {
+            return entry.contents();
+        }
+
+        List<Long> answerIds = snapshot.getMembers().stream()
+                .map(Member::getAnswerId)
+                .filter(Objects::nonNull)
+                .toList();
+        Map<Long, EncryptedContent> loaded = answerIds.isEmpty() ? Map.of() : answerRepository.findAllById(answerIds).stream()
+                .collect(Collectors.toMap(Answer::getId, Answer::getContent));
+        putContents(snapshot, loaded);
+        return loaded;
+    }
+
+    /**
+     * 커플 스냅샷 무효화
+     */
+    public void evict(Long coupleId) {
+        evictAll(List.of(coupleId));
+    }
+
+    /**
+     * 여러 커플 스냅샷 무효화 (트랜잭션 안이면 커밋 이후 수행)
+     */
+    public void evictAll(Collection<Long> coupleIds) {
+        if (coupleIds.isEmpty()) return;
+        List<Long> targets = List.copyOf(coupleIds);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doEvict(targets);
+                }
+            });
+        } else {
+            doEvict(targets);
+        }
+    }
+
+    private void doEvict(List<Long> coupleIds) {
+        coupleIds.forEach(contents::remove);
+        long ttlMillis = TimeUnit.HOURS.toMillis(redisTtlHours);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long coupleId : coupleIds) {
+                    byte[] genKey = bytes(GEN_PREFIX + coupleId);
+                    connection.stringCommands().incr(genKey);
+                    connection.keyCommands().pExpire(genKey, ttlMillis);
+                    connection.keyCommands().del(bytes(KEY_PREFIX + coupleId));
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("[TODAY] 스냅샷 캐시 무효화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB에서 스냅샷 생성 (유저/커플, 최신 질문, 두 사람의 답변, 열람 기록을 단일 쿼리로 조회)
+     * 세대 번호는 DB 조회 전에 읽어야 하므로, 인증 컨텍스트의 커플 ID와 실제 커플이 다르면
+     * 이번 결과는 Redis에 저장하지 않습니다. (인증 컨텍스트가 무효화된 뒤의 조회에서 저장)
+     */
+    private TodaySnapshot load(Long userId, Long knownCoupleId) {
+        String generation = readGeneration(knownCoupleId);
+        TodayAnswerRow row = answerRepository.findTodayAnswerRow(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+
+        if (row.getCoupleId() == null) {
+            throw new BusinessException(ErrorCode.COUPLE_NOT_FOUND);
+        }
+
+        Long coupleId = row.getCoupleId();
+        TodaySnapshot snapshot = TodaySnapshot.builder()
+                .version(UUID.randomUUID().toString())
+                .coupleId(coupleId)
+                .subscribed(Boolean.TRUE.equals(row.getSubscribed()))
+                .questionId(row.getQuestionId())
+                .members(List.of(
+                        toMember(row.getUser1Id(), row.getUser1Nickname(), row.getUser1AnswerId(),
+                                row.getUser1AnswerCreatedAt(), row.getUser1Revealed()),
+                        toMember(row.getUser2Id(), row.getUser2Nickname(), row.getUser2AnswerId(),
+                                row.getUser2AnswerCreatedAt(), row.getUser2Revealed())))
+                .build();
+
+        if (coupleId.equals(knownCoupleId)) {
+            writeRedis(snapshot, generation);
+        }
+
+        Map<Long, EncryptedContent> loadedContents = new HashMap<>();
+        if (row.getUser1AnswerId() != null) loadedContents.put(row.getUser1AnswerId(), row.getUser1AnswerContent());
+        if (row.getUser2AnswerId() != null) loadedContents.put(row.getUser2AnswerId(), row.getUser2AnswerContent());
+        putContents(snapshot, loadedContents);
+        return snapshot;
+    }
+
+    private Member toMember(Long userId, String nickname, Long answerId, LocalDateTime answerCreatedAt, Boolean revealed) {
+        return Member.builder()
+                .userId(userId)
+                .nickname(nickname)
+                .answerId(answerId)
+                .answerCreatedAt(answerCreatedAt)
+                .revealedPartnerAnswer(Boolean.TRUE.equals(revealed))
+                .build();
+    }
+
+    private void putContents(TodaySnapshot snapshot, Map<Long, EncryptedContent> loaded) {
+        contents.put(snapshot.getCoupleId(),
+                new ContentEntry(snapshot.getVersion(), Map.copyOf(loaded)), System.currentTimeMillis() + contentTtlMs);
+    }
+
+    private TodaySnapshot readRedis(Long coupleId) {
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + coupleId);
+            return json == null ? null : objectMapper.readValue(json, TodaySnapshot.class);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("[TODAY] 스냅샷 캐시 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private String readGeneration(Long coupleId) {
+        try {
+            String generation = redisTemplate.opsForValue().get(GEN_PREFIX + coupleId);
+            return generation == null ? "0" : generation;
+        } catch (DataAccessException e) {
+            return null;
+        }
+    }
+
+    private void writeRedis(TodaySnapshot snapshot, String generation) {
+        if (generation == null) return;
+        try {
+            redisTemplate.execute(WRITE_IF_SAME_GEN_SCRIPT,
+                    List.of(KEY_PREFIX + snapshot.getCoupleId(), GEN_PREFIX + snapshot.getCoupleId()),
+                    generation,
+                    objectMapper.writeValueAsString(snapshot),
+                    String.valueOf(TimeUnit.HOURS.toMillis(redisTtlHours)));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("[TODAY] 스냅샷 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private static byte[] bytes(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private record ContentEntry(String version, Map<Long, EncryptedContent> contents) {
+    }
+
+    /**
+     * 커플의 오늘 화면 메타데이터 (Redis 저장용, 답변 내용 미포함)
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TodaySnapshot {
+        private String version;
+        private Long coupleId;
+        private boolean subscribed;
+        private Long questionId; // 배정된 질문이 없으면 null
+        private List<Member> members; // [user1, user2] 순서
+
+        public Member member(Long userId) {
+            return members.stream().filter(m -> m.getUserId().equals(userId)).findFirst().orElse(null);
+        }
+
+        public Member partnerOf(Long userId) {
+            return members.stream().filter(m -> !m.getUserId().equals(userId)).findFirst().orElse(null);
+        }
+    }
+
+    /**
+     * 커플 구성원별 답변 현황
+     * revealedPartnerAnswer: 이 유저가 파트너의 답변을 열람 해제했는지 여부
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Member {
+        private Long userId;
+        private String nickname;
+        private Long answerId;
+        private LocalDateTime answerCreatedAt;
+        private boolean revealedPartnerAnswer;
+    }
+}
@@ -3,7 +3,11 @@ package com.unlock.api.domain.user.repository;
 import com.unlock.api.domain.user.entity.User;
 import com.unlock.api.domain.user.entity.UserFcmToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +26,18 @@ public interface UserFcmTokenRepository extends JpaRepository<UserFcmToken, Long
      */
     List<UserFcmToken> findAllByUser(User user);
 
+    /**
+     * 여러 유저의 (유저 ID, 토큰) 일괄 조회 (토큰 캐시 적재용 - 엔티티 로딩 없이 토큰 문자열만 조회)
+     */
+    @Query("SELECT t.user.id, t.token FROM UserFcmToken t WHERE t.user.id IN :userIds")
+    List<Object[]> findUserIdAndTokenByUserIdIn(@Param("userIds") List<Long> userIds);
+
+    /**
+     * 마지막 사용 시각이 기준 시각 이전인 토큰을 가진 유저 ID 조회 (장기 미사용 토큰 정리 시 캐시 무효화용)
+     */
+    @Query("SELECT DISTINCT t.user.id FROM UserFcmToken t WHERE t.lastUsedAt < :threshold")
+    List<Long> findUserIdsByLastUsedAtBefore(@Param("threshold") LocalDateTime threshold);
+
     /**
      * 특정 유저의 특정 토큰 삭제 (로그아웃용)
      */
@@ -31,4 +47,18 @@ public interface UserFcmTokenRepository extends JpaRepository<UserFcmToken, Long
      * 특정 유저의 모든 토큰 삭제 (회원 탈퇴용)
      */
     void deleteAllByUser(User user);
+
+    /**
+     * 토큰 값 목록에 해당하는 토큰 일괄 삭제 (만료 토큰 정리용)
+     */
+    @Modifying
+    @Query("DELETE FROM UserFcmToken t WHERE t.token IN :tokens")
+    int deleteAllByTokenIn(@Param("tokens") List<String> tokens);
+
+    /**
+     * 마지막 사용 시각이 기준 시각 이전인 토큰 일괄 삭제 (장기 미사용 토큰 정리용)
+     */
+    @Modifying
+    @Query("DELETE FROM UserFcmToken t WHERE t.lastUsedAt < :threshold")
+    int deleteAllByLastUsedAtBefore(@Param("threshold") LocalDateTime threshold);
 }
@@ -1,8 +1,12 @@
 package com.unlock.api.domain.user.repository;
 
+import com.unlock.api.common.security.auth.AuthContext;
 import com.unlock.api.domain.user.entity.AuthProvider;
 import com.unlock.api.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -10,4 +14,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
     Optional<User> findBySocialIdAndProvider(String socialId, AuthProvider provider);
     Optional<User> findByInviteCode(String inviteCode);
+
+    /**
+     * 인증 컨텍스트 조회 (유저, 커플, 파트너를 단일 쿼리로 조회)
+     */
+    @Query("SELECT new com.unlock.api.common.security.auth.AuthContext(u.id, c.id, p.id, c.isSubscribed, u.nickname, c.user1.id) "
+            + "FROM User u LEFT JOIN u.couple c LEFT JOIN User p ON p.couple = c AND p.id <> u.id "
+            + "WHERE u.id = :userId")
+    Optional<AuthContext> findAuthContext(@Param("userId") Long userId);
 }
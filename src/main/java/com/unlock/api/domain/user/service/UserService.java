@@ -2,10 +2,14 @@ package com.unlock.api.domain.user.service;
 
 import com.unlock.api.common.exception.BusinessException;
 import com.unlock.api.common.exception.ErrorCode;
+import com.unlock.api.common.security.auth.AuthContextCache;
 import com.unlock.api.domain.answer.repository.AnswerRepository;
 import com.unlock.api.domain.answer.repository.AnswerRevealRepository;
+import com.unlock.api.domain.answer.service.RevealResolver;
 import com.unlock.api.domain.auth.service.AuthService;
+import com.unlock.api.domain.auth.service.FcmTokenCache;
 import com.unlock.api.domain.couple.service.CoupleService;
+import com.unlock.api.domain.question.service.TodaySnapshotCache;
 import com.unlock.api.domain.user.dto.UserDto.NicknameUpdateRequest;
 import com.unlock.api.domain.user.dto.UserDto.PasswordUpdateRequest;
 import com.unlock.api.domain.user.entity.User;
@@ -32,6 +36,10 @@ public class UserService {
     private final AnswerRepository answerRepository;
     private final AnswerRevealRepository answerRevealRepository;
     private final UserFcmTokenRepository fcmTokenRepository;
+    private final FcmTokenCache fcmTokenCache;
+    private final TodaySnapshotCache todaySnapshotCache;
+    private final RevealResolver revealResolver;
+    private final AuthContextCache authContextCache;
     private final PasswordEncoder passwordEncoder; // 추가
 
     /**
@@ -42,6 +50,9 @@ public class UserService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         user.updateNickname(request.getNickname());
+        // 오늘 화면 스냅샷과 인증 컨텍스트에 닉네임이 포함되므로 무효화
+        if (user.getCouple() != null) todaySnapshotCache.evict(user.getCouple().getId());
+        authContextCache.evict(userId);
         log.info("유저(ID:{}) 닉네임 변경 완료: {}", userId, request.getNickname());
         return user.getNickname();
     }
@@ -79,11 +90,14 @@ public class UserService {
 
         // 2. 유저 개인 데이터 연쇄 파기 (커플이 아니었더라도 남아있을 수 있는 데이터 정리)
         answerRevealRepository.deleteAllByUser(user);
+        revealResolver.evict(userId);
         answerRepository.deleteAllByUser(user);
         fcmTokenRepository.deleteAllByUser(user);
+        fcmTokenCache.evict(userId);
+        authContextCache.evict(userId);
 
-        // 3. 인증 정보(Redis RefreshToken) 완전 파기
-        authService.logout(userId, null);
+        // 3. 인증 정보(모든 기기의 Redis RefreshToken) 완전 파기
+        authService.revokeAllSessions(userId);
 
         // 4. 최종 유저 엔티티 삭제 (DB 제약 조건 문제 해결)
         userRepository.delete(user);
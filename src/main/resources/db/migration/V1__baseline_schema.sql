@@ -0,0 +1,70 @@
+-- 초기 스키마 (기존 ddl-auto=update로 생성되던 구조와 동일)
+-- 이미 테이블이 존재하는 운영 DB는 baseline-on-migrate로 이 버전을 건너뜁니다.
+
+CREATE TABLE couples (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user1_id          BIGINT UNIQUE,
+    user2_id          BIGINT UNIQUE,
+    start_date        DATE         NOT NULL,
+    notification_time TIME(6)      NOT NULL,
+    is_subscribed     BOOLEAN      NOT NULL,
+    created_at        TIMESTAMP(6),
+    updated_at        TIMESTAMP(6)
+);
+
+CREATE TABLE users (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email       VARCHAR(255) NOT NULL UNIQUE,
+    password    VARCHAR(255) NOT NULL,
+    nickname    VARCHAR(255) NOT NULL,
+    provider    VARCHAR(255) NOT NULL CHECK (provider IN ('KAKAO', 'GOOGLE', 'APPLE', 'EMAIL')),
+    social_id   VARCHAR(255) UNIQUE,
+    invite_code VARCHAR(255) NOT NULL UNIQUE,
+    couple_id   BIGINT REFERENCES couples (id),
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6)
+);
+
+ALTER TABLE couples ADD FOREIGN KEY (user1_id) REFERENCES users (id);
+ALTER TABLE couples ADD FOREIGN KEY (user2_id) REFERENCES users (id);
+
+CREATE TABLE user_fcm_tokens (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id      BIGINT       NOT NULL REFERENCES users (id),
+    token        VARCHAR(255) NOT NULL UNIQUE,
+    last_used_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE questions (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    content    TEXT         NOT NULL,
+    category   VARCHAR(255) NOT NULL CHECK (category IN ('DAILY', 'ROMANCE', 'SPICY', 'DEEP_TALK')),
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE couple_questions (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    couple_id     BIGINT NOT NULL REFERENCES couples (id),
+    question_id   BIGINT NOT NULL REFERENCES questions (id),
+    assigned_date DATE   NOT NULL,
+    created_at    TIMESTAMP(6),
+    updated_at    TIMESTAMP(6)
+);
+
+CREATE TABLE answers (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    question_id BIGINT NOT NULL REFERENCES questions (id),
+    user_id     BIGINT NOT NULL REFERENCES users (id),
+    content     TEXT   NOT NULL,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6)
+);
+
+CREATE TABLE answer_reveals (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id    BIGINT NOT NULL REFERENCES users (id),
+    answer_id  BIGINT NOT NULL REFERENCES answers (id),
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6)
+);
@@ -0,0 +1,16 @@
+-- 아카이브/오늘 화면 조회용 인덱스
+
+-- 월별 아카이브 범위 조회 [월 첫날, 다음 달 첫날) 및 커플별 최신 배정일(MAX) 조회
+-- question_id를 포함하여 인덱스만으로 조회(Index Only Scan)할 수 있도록 합니다.
+CREATE INDEX IF NOT EXISTS idx_couple_questions_couple_date
+    ON couple_questions (couple_id, assigned_date) INCLUDE (question_id);
+
+-- 아카이브 상세 조회 (커플 + 질문)
+CREATE INDEX IF NOT EXISTS idx_couple_questions_couple_question
+    ON couple_questions (couple_id, question_id);
+
+-- 질문별 두 사람의 답변 조회 (아카이브/오늘 화면 조인)
+-- ddl-auto=update 시절 INCLUDE 없이 생성된 동일 이름 인덱스가 있을 수 있어 다시 생성합니다.
+DROP INDEX IF EXISTS idx_answers_question_user;
+CREATE INDEX idx_answers_question_user
+    ON answers (question_id, user_id) INCLUDE (id);
@@ -0,0 +1,6 @@
+-- 타임라인 키셋 페이지네이션 (assigned_date DESC, id DESC) 지원
+-- 같은 날짜 안에서도 id 순서로 이어서 읽을 수 있도록 id를 키에 추가합니다. (역방향 스캔으로 DESC 정렬 처리)
+-- 기존 월별 범위 조회/최신 배정일 조회도 그대로 이 인덱스를 사용합니다.
+DROP INDEX IF EXISTS idx_couple_questions_couple_date;
+CREATE INDEX idx_couple_questions_couple_date
+    ON couple_questions (couple_id, assigned_date, id) INCLUDE (question_id);
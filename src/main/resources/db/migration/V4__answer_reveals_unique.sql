@@ -0,0 +1,10 @@
+-- 열람 기록 중복 방지 (동시 해제 요청 경합 차단 + 유저별 열람 ID 일괄 조회)
+-- 기존 중복 기록은 가장 먼저 생성된 한 건만 남깁니다.
+DELETE FROM answer_reveals a
+    USING answer_reveals b
+    WHERE a.user_id = b.user_id
+      AND a.answer_id = b.answer_id
+      AND a.id > b.id;
+
+CREATE UNIQUE INDEX uk_answer_reveals_user_answer
+    ON answer_reveals (user_id, answer_id);
@@ -0,0 +1,36 @@
+-- 답변 중복 방지 (유저당 질문별 한 건, INSERT ... ON CONFLICT DO NOTHING 대상)
+-- 기존 중복 답변은 가장 먼저 작성된 한 건만 남기고, 중복 답변에 걸린 열람 기록은 남기는 답변으로 옮깁니다.
+-- 옮기는 과정에서 열람 기록 유니크 인덱스가 충돌하지 않도록 잠시 내렸다가 정리 후 다시 생성합니다.
+CREATE TEMPORARY TABLE answer_duplicates ON COMMIT DROP AS
+SELECT a.id AS duplicate_id, k.keep_id
+FROM answers a
+         JOIN (SELECT user_id, question_id, MIN(id) AS keep_id
+               FROM answers
+               GROUP BY user_id, question_id
+               HAVING COUNT(*) > 1) k
+              ON a.user_id = k.user_id AND a.question_id = k.question_id AND a.id <> k.keep_id;
+
+DROP INDEX IF EXISTS uk_answer_reveals_user_answer;
+
+UPDATE answer_reveals r
+SET answer_id = d.keep_id
+FROM answer_duplicates d
+WHERE r.answer_id = d.duplicate_id;
+
+DELETE FROM answer_reveals a
+    USING answer_reveals b
+    WHERE a.user_id = b.user_id
+      AND a.answer_id = b.answer_id
+      AND a.id > b.id;
+
+CREATE UNIQUE INDEX uk_answer_reveals_user_answer
+    ON answer_reveals (user_id, answer_id);
+
+DELETE FROM answers a
+    USING answer_duplicates d
+    WHERE a.id = d.duplicate_id;
+
+-- 기존 조인용 인덱스(question_id, user_id)를 같은 컬럼의 유니크 인덱스로 교체합니다.
+DROP INDEX IF EXISTS idx_answers_question_user;
+CREATE UNIQUE INDEX uk_answers_question_user
+    ON answers (question_id, user_id) INCLUDE (id);
@@ -0,0 +1,12 @@
+-- 커플별 질문 중복 배정 방지 (덱 추첨과 DB 추첨이 같은 질문을 다시 배정하는 경합 차단)
+-- 기존 중복 배정은 가장 먼저 배정된 한 건만 남깁니다. (답변은 질문 ID 기준으로 연결되어 있어 영향 없음)
+DELETE FROM couple_questions a
+    USING couple_questions b
+    WHERE a.couple_id = b.couple_id
+      AND a.question_id = b.question_id
+      AND a.id > b.id;
+
+-- 기존 조회용 인덱스(couple_id, question_id)를 같은 컬럼의 유니크 인덱스로 교체합니다.
+DROP INDEX IF EXISTS idx_couple_questions_couple_question;
+CREATE UNIQUE INDEX uk_couple_questions_couple_question
+    ON couple_questions (couple_id, question_id);
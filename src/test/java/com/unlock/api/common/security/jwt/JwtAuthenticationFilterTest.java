@@ -0,0 +1,117 @@
+package com.unlock.api.common.security.jwt;
+
+import com.unlock.api.common.security.config.SecurityConfig;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * JWT 인증 필터 검증 (실제 SecurityConfig 필터 체인)
+ * API 인증에는 Access Token만 허용되고, Refresh Token(현재/이전 형식)은 서명이 유효해도 401이 되는지 확인합니다.
+ */
+@SpringJUnitWebConfig(JwtAuthenticationFilterTest.TestConfig.class)
+@TestPropertySource(properties = {
+        "jwt.secret=" + JwtAuthenticationFilterTest.SECRET,
+        "jwt.access-token-validity=1800000",
+        "jwt.refresh-token-validity=1209600000",
+        "jwt.cache.max-size=100",
+        "swagger.user=swagger",
+        "swagger.password=swagger"
+})
+class JwtAuthenticationFilterTest {
+
+    static final String SECRET = "0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    }
+
+    @Test
+    void Access_Token으로_API를_호출할_수_있다() throws Exception {
+        mockMvc.perform(get("/api/v1/ping").header("Authorization", "Bearer " + jwtTokenProvider.createAccessToken(1L)))
+                .andExpect(status().isOk())
+                .andExpect(content().string("1"));
+    }
+
+    @Test
+    void Refresh_Token으로는_API를_호출할_수_없다() throws Exception {
+        String refreshToken = jwtTokenProvider.createRefreshToken(1L, UUID.randomUUID().toString(), UUID.randomUUID().toString());
+
+        mockMvc.perform(get("/api/v1/ping").header("Authorization", "Bearer " + refreshToken))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void 계열_도입_이전_형식의_Refresh_Token으로도_API를_호출할_수_없다() throws Exception {
+        // 종류/계열 클레임 없이 Refresh Token 유효 기간으로 발급되던 이전 형식
+        Date now = new Date();
+        String legacyRefreshToken = Jwts.builder()
+                .subject("1")
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + 1209600000L))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), Jwts.SIG.HS256)
+                .compact();
+
+        mockMvc.perform(get("/api/v1/ping").header("Authorization", "Bearer " + legacyRefreshToken))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Configuration
+    @EnableWebMvc
+    @Import({SecurityConfig.class, JwtAuthenticationFilter.class, JwtTokenCache.class, JwtTokenProvider.class})
+    static class TestConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        PingController pingController() {
+            return new PingController();
+        }
+    }
+
+    @RestController
+    static class PingController {
+
+        @GetMapping("/api/v1/ping")
+        String ping(@AuthenticationPrincipal Long userId) {
+            return String.valueOf(userId);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.unlock.api.common.security.util;
+
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 답변 암호화 컬럼 형식 검증
+ * 새 형식(AES-GCM, 키 ID 포함)과 이전 형식(AES/ECB) 행을 함께 읽을 수 있는지 확인합니다.
+ */
+class AesEncryptionConverterTest {
+
+    private static final String KEY = "0123456789abcdef0123456789abcdef";
+    private static final String NEW_KEY = "fedcba9876543210fedcba9876543210";
+
+    private final AesEncryptionConverter converter = new AesEncryptionConverter(KEY, "1", "");
+
+    @Test
+    void 새_형식은_키_ID와_행마다_다른_IV로_저장된다() {
+        String first = converter.convertToDatabaseColumn("오늘의 답변");
+        String second = converter.convertToDatabaseColumn("오늘의 답변");
+
+        assertThat(first).startsWith("v2:1:");
+        assertThat(first).isNotEqualTo(second);
+        assertThat(converter.convertToEntityAttribute(first)).isEqualTo("오늘의 답변");
+        assertThat(converter.needsReencryption(first)).isFalse();
+    }
+
+    @Test
+    void 이전_형식_행을_읽고_새_형식으로_재암호화한다() throws Exception {
+        Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+        cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(KEY.getBytes(StandardCharsets.UTF_8), "AES"));
+        String legacy = Base64.getEncoder().encodeToString(cipher.doFinal("예전 답변".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(converter.convertToEntityAttribute(legacy)).isEqualTo("예전 답변");
+        assertThat(converter.needsReencryption(legacy)).isTrue();
+        assertThat(converter.convertToEntityAttribute(converter.reencrypt(legacy))).isEqualTo("예전 답변");
+    }
+
+    @Test
+    void 키를_교체해도_이전_키로_저장된_행을_읽는다() {
+        String written = converter.convertToDatabaseColumn("교체 전 답변");
+        AesEncryptionConverter rotated = new AesEncryptionConverter(NEW_KEY, "2", "1=" + KEY);
+
+        assertThat(rotated.convertToEntityAttribute(written)).isEqualTo("교체 전 답변");
+        assertThat(rotated.needsReencryption(written)).isTrue();
+        assertThat(rotated.reencrypt(written)).startsWith("v2:2:");
+    }
+
+    @Test
+    void 변조된_암호문은_복호화하지_않는다() {
+        String written = converter.convertToDatabaseColumn("답변");
+        int index = written.length() - 10;
+        char replaced = written.charAt(index) == 'A' ? 'B' : 'A';
+        String tampered = written.substring(0, index) + replaced + written.substring(index + 1);
+
+        assertThatThrownBy(() -> converter.convertToEntityAttribute(tampered)).isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    void 지연_복호화는_평문을_읽을_때_한_번만_복호화한다() {
+        EncryptedContentConverter lazyConverter = new EncryptedContentConverter(converter);
+        String written = lazyConverter.convertToDatabaseColumn(EncryptedContent.of("잠긴 답변"));
+
+        DecryptCounter.start();
+        EncryptedContent loaded = lazyConverter.convertToEntityAttribute(written);
+        assertThat(loaded.isEmpty()).isFalse();
+        assertThat(lazyConverter.convertToDatabaseColumn(loaded)).isEqualTo(written);
+        int beforeRead = DecryptCounter.finish();
+
+        DecryptCounter.start();
+        loaded.decrypt();
+        assertThat(loaded.decrypt()).isEqualTo("잠긴 답변");
+        int afterRead = DecryptCounter.finish();
+
+        assertThat(beforeRead).isZero();
+        assertThat(afterRead).isEqualTo(1);
+    }
+}
@@ -0,0 +1,134 @@
+package com.unlock.api.domain.answer.repository;
+
+import com.unlock.api.common.config.QuerydslConfig;
+import com.unlock.api.common.security.util.AesEncryptionConverter;
+import com.unlock.api.common.security.util.EncryptedContent;
+import com.unlock.api.common.security.util.EncryptedContentConverter;
+import com.unlock.api.domain.answer.dto.AnswerDto.TodayAnswerRow;
+import com.unlock.api.domain.answer.entity.Answer;
+import com.unlock.api.domain.answer.entity.AnswerReveal;
+import com.unlock.api.domain.couple.entity.Couple;
+import com.unlock.api.domain.question.entity.CoupleQuestion;
+import com.unlock.api.domain.question.entity.Question;
+import com.unlock.api.domain.question.entity.QuestionCategory;
+import com.unlock.api.domain.user.entity.AuthProvider;
+import com.unlock.api.domain.user.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 오늘 화면 단일 쿼리(findTodayAnswerRow) 검증
+ * 결과 값과 함께, 조회에 사용된 SQL 문장 수가 1개인지 Hibernate 통계로 확인합니다.
+ */
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, AesEncryptionConverter.class, EncryptedContentConverter.class})
+@TestPropertySource(properties = {
+        "encryption.key=0123456789abcdef0123456789abcdef",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class AnswerRepositoryTodayQueryTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+
+    private User me;
+    private User partner;
+    private Couple couple;
+
+    @BeforeEach
+    void setUp() {
+        me = em.persist(user("me"));
+        partner = em.persist(user("partner"));
+        couple = em.persist(Couple.builder().user1(me).user2(partner).startDate(LocalDate.now()).build());
+        me.setCouple(couple);
+        partner.setCouple(couple);
+    }
+
+    @Test
+    void 최근_질문과_두_사람의_답변_및_열람_여부를_한_번의_쿼리로_조회한다() {
+        Question old = em.persist(question("어제의 질문"));
+        Question today = em.persist(question("오늘의 질문"));
+        em.persist(CoupleQuestion.builder().couple(couple).question(old).assignedDate(LocalDate.now().minusDays(1)).build());
+        em.persist(CoupleQuestion.builder().couple(couple).question(today).assignedDate(LocalDate.now()).build());
+        Answer myAnswer = em.persist(Answer.builder().user(me).question(today).content(EncryptedContent.of("내 답변")).build());
+        Answer partnerAnswer = em.persist(Answer.builder().user(partner).question(today).content(EncryptedContent.of("파트너 답변")).build());
+        em.persist(AnswerReveal.builder().user(me).answer(partnerAnswer).build());
+        em.flush();
+        em.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        TodayAnswerRow row = answerRepository.findTodayAnswerRow(me.getId()).orElseThrow();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(row.getCoupleId()).isEqualTo(couple.getId());
+        assertThat(row.getSubscribed()).isFalse();
+        assertThat(row.getQuestionId()).isEqualTo(today.getId());
+        assertThat(row.getUser1Nickname()).isEqualTo("me");
+        assertThat(row.getUser1AnswerId()).isEqualTo(myAnswer.getId());
+        assertThat(row.getUser1AnswerContent().decrypt()).isEqualTo("내 답변");
+        assertThat(row.getUser1Revealed()).isTrue();
+        assertThat(row.getUser2Nickname()).isEqualTo("partner");
+        assertThat(row.getUser2AnswerId()).isEqualTo(partnerAnswer.getId());
+        assertThat(row.getUser2AnswerContent().decrypt()).isEqualTo("파트너 답변");
+        assertThat(row.getUser2Revealed()).isFalse();
+    }
+
+    @Test
+    void 배정된_질문이_없으면_커플_정보만_조회한다() {
+        em.flush();
+        em.clear();
+
+        TodayAnswerRow row = answerRepository.findTodayAnswerRow(partner.getId()).orElseThrow();
+
+        assertThat(row.getCoupleId()).isEqualTo(couple.getId());
+        assertThat(row.getQuestionId()).isNull();
+        assertThat(row.getUser1AnswerId()).isNull();
+        assertThat(row.getUser2AnswerId()).isNull();
+    }
+
+    private User user(String nickname) {
+        return User.builder()
+                .email(nickname + "@unlock.com")
+                .password("password")
+                .nickname(nickname)
+                .provider(AuthProvider.EMAIL)
+                .inviteCode(nickname.toUpperCase())
+                .build();
+    }
+
+    private Question question(String content) {
+        return Question.builder().content(content).category(QuestionCategory.values()[0]).build();
+    }
+}
@@ -0,0 +1,130 @@
+package com.unlock.api.domain.answer.repository;
+
+import com.unlock.api.common.config.QuerydslConfig;
+import com.unlock.api.common.security.util.AesEncryptionConverter;
+import com.unlock.api.common.security.util.EncryptedContentConverter;
+import com.unlock.api.domain.couple.entity.Couple;
+import com.unlock.api.domain.user.entity.AuthProvider;
+import com.unlock.api.domain.user.entity.User;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 월별 아카이브 쿼리 실행 계획 회귀 테스트
+ * 실제로 생성된 SQL을 캡처하여 EXPLAIN (GENERIC_PLAN)으로 확인하며,
+ * 배정 날짜 조건이 (couple_id, assigned_date) 인덱스의 범위 조건(Index Cond)으로 쓰이는지 검증합니다.
+ * 데이터가 적으면 플래너가 순차 스캔을 고르므로, 순차 스캔을 비활성화한 상태에서 인덱스 사용 가능 여부만 확인합니다.
+ */
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, AesEncryptionConverter.class, EncryptedContentConverter.class})
+@TestPropertySource(properties = {
+        "encryption.key=0123456789abcdef0123456789abcdef",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.unlock.api.domain.answer.repository.MonthlyArchiveExplainTest$SqlCapture"
+})
+class MonthlyArchiveExplainTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void 월별_아카이브_조회는_배정_날짜_인덱스_범위_검색을_사용한다() {
+        User me = em.persist(user("me"));
+        User partner = em.persist(user("partner"));
+        Couple couple = em.persist(Couple.builder().user1(me).user2(partner).startDate(LocalDate.now()).build());
+        em.flush();
+
+        SqlCapture.clear();
+        answerRepository.findMonthlyArchiveSummary(couple, me.getId(), partner.getId(), 2026, 2);
+        String sql = SqlCapture.last();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        String plan = String.join("\n",
+                jdbcTemplate.queryForList("EXPLAIN (GENERIC_PLAN) " + toPositionalParameters(sql), String.class));
+
+        assertThat(plan).contains("idx_couple_questions_couple_date");
+        assertThat(plan).containsPattern("Index Cond: .*assigned_date >= ");
+        assertThat(plan).doesNotContain("Seq Scan on couple_questions");
+    }
+
+    /**
+     * JDBC 파라미터(?)를 PostgreSQL 위치 파라미터($1, $2 ...)로 변환 (GENERIC_PLAN 용)
+     */
+    private static String toPositionalParameters(String sql) {
+        AtomicInteger index = new AtomicInteger();
+        Matcher matcher = Pattern.compile("\\?").matcher(sql);
+        return matcher.replaceAll(result -> "\\$" + index.incrementAndGet());
+    }
+
+    private User user(String nickname) {
+        return User.builder()
+                .email(nickname + "@unlock.com")
+                .password("password")
+                .nickname(nickname)
+                .provider(AuthProvider.EMAIL)
+                .inviteCode(nickname.toUpperCase())
+                .build();
+    }
+
+    /**
+     * Hibernate가 실행하는 SQL 캡처용 StatementInspector
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        private static final List<String> statements = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            synchronized (statements) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+
+        static void clear() {
+            synchronized (statements) {
+                statements.clear();
+            }
+        }
+
+        static String last() {
+            synchronized (statements) {
+                return statements.get(statements.size() - 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.unlock.api.domain.auth.service;
+
+import com.unlock.api.domain.auth.service.RefreshTokenStore.Rotation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Refresh Token 계열 저장소 검증 (실제 Redis)
+ * 같은 토큰으로 동시에 재발급을 요청해도 교체는 한 번만 일어나는지, 재사용 탐지와 기기별 폐기가 동작하는지 확인합니다.
+ * 처리량 측정(@Tag("perf"))은 기본 test에서 제외되며 ./gradlew perfTest로 실행합니다. (처리량 하한, p99 상한 검증)
+ */
+@Testcontainers
+class RefreshTokenStoreTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenStoreTest.class);
+    private static final int THREADS = 64;
+    // 성능 기준: 초당 수천 건의 동시 재발급, p99 지연 상한
+    private static final double MIN_OPS_PER_SECOND = 2_000;
+    private static final double MAX_P99_MILLIS = 50;
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+    private static ExecutorService executor;
+
+    private RefreshTokenStore store;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterAll
+    static void close() {
+        executor.shutdownNow();
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        store = new RefreshTokenStore(redisTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(store, "ttlMillis", 60_000L);
+        ReflectionTestUtils.setField(store, "maxFamilies", 3);
+        ReflectionTestUtils.setField(store, "reuseGraceMillis", 10_000L);
+        store.initMetrics();
+    }
+
+    @Test
+    void 같은_토큰으로_동시에_재발급하면_한_번만_교체된다() throws Exception {
+        store.issue(1L, "device", "t0");
+
+        List<Callable<Rotation>> tasks = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            String newTokenId = "t1-" + i;
+            tasks.add(() -> store.rotate(1L, "device", "t0", newTokenId));
+        }
+        Map<Rotation, Long> results = runAll(tasks);
+
+        assertThat(results.get(Rotation.ROTATED)).isEqualTo(1);
+        assertThat(results.get(Rotation.ALREADY_ROTATED)).isEqualTo(999);
+    }
+
+    @Test
+    void 유예_시간이_지난_이전_토큰을_재사용하면_계열이_폐기된다() {
+        ReflectionTestUtils.setField(store, "reuseGraceMillis", -1L);
+        store.issue(2L, "device", "t0");
+        assertThat(store.rotate(2L, "device", "t0", "t1")).isEqualTo(Rotation.ROTATED);
+
+        assertThat(store.rotate(2L, "device", "t0", "t2")).isEqualTo(Rotation.REUSED);
+        assertThat(store.rotate(2L, "device", "t1", "t3")).isEqualTo(Rotation.NOT_FOUND);
+    }
+
+    @Test
+    void 기기별로_독립적으로_교체되고_전체_폐기는_모든_기기에_적용된다() {
+        store.issue(3L, "phone", "p0");
+        store.issue(3L, "tablet", "t0");
+
+        assertThat(store.rotate(3L, "phone", "p0", "p1")).isEqualTo(Rotation.ROTATED);
+        assertThat(store.rotate(3L, "tablet", "t0", "t1")).isEqualTo(Rotation.ROTATED);
+
+        store.revoke(3L, "phone");
+        assertThat(store.rotate(3L, "phone", "p1", "p2")).isEqualTo(Rotation.NOT_FOUND);
+        assertThat(store.rotate(3L, "tablet", "t1", "t2")).isEqualTo(Rotation.ROTATED);
+
+        store.revokeAll(3L);
+        assertThat(store.rotate(3L, "tablet", "t2", "t3")).isEqualTo(Rotation.NOT_FOUND);
+    }
+
+    @Test
+    void 기기_수를_넘으면_가장_오래된_계열이_폐기된다() throws InterruptedException {
+        for (int i = 0; i < 4; i++) {
+            store.issue(4L, "device-" + i, "t0");
+            Thread.sleep(2); // 발급 시각(점수) 구분
+        }
+
+        assertThat(store.rotate(4L, "device-0", "t0", "t1")).isEqualTo(Rotation.NOT_FOUND);
+        assertThat(store.rotate(4L, "device-3", "t0", "t1")).isEqualTo(Rotation.ROTATED);
+    }
+
+    @Test
+    void 여러_유저의_동시_재발급이_모두_교체된다() throws Exception {
+        int users = 2000;
+        for (long userId = 100; userId < 100 + users; userId++) {
+            store.issue(userId, "device", "t0");
+        }
+
+        List<Callable<Rotation>> tasks = new ArrayList<>();
+        for (long userId = 100; userId < 100 + users; userId++) {
+            long id = userId;
+            tasks.add(() -> store.rotate(id, "device", "t0", "t1"));
+        }
+        Map<Rotation, Long> results = runAll(tasks);
+
+        assertThat(results).containsOnlyKeys(Rotation.ROTATED);
+        assertThat(results.get(Rotation.ROTATED)).isEqualTo(users);
+    }
+
+    @Test
+    @Tag("perf")
+    void 동시_재발급_처리량과_p99_지연이_기준을_만족한다() throws Exception {
+        int warmup = 200;
+        int measured = 1000;
+        long baseUserId = 10_000;
+        for (int t = 0; t < THREADS; t++) {
+            store.issue(baseUserId + t, "device", "0");
+        }
+
+        // 워밍업 (스크립트 캐시, 커넥션, JIT)
+        List<Callable<long[]>> warmupTasks = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            long userId = baseUserId + t;
+            warmupTasks.add(() -> rotateChain(userId, 0, warmup));
+        }
+        for (Future<long[]> future : executor.invokeAll(warmupTasks)) future.get();
+
+        List<Callable<long[]>> tasks = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            long userId = baseUserId + t;
+            tasks.add(() -> rotateChain(userId, warmup, measured));
+        }
+        long started = System.nanoTime();
+        List<Future<long[]>> futures = executor.invokeAll(tasks);
+        long[] latencies = new long[THREADS * measured];
+        int offset = 0;
+        for (Future<long[]> future : futures) {
+            long[] part = future.get();
+            System.arraycopy(part, 0, latencies, offset, part.length);
+            offset += part.length;
+        }
+        long elapsedNanos = System.nanoTime() - started;
+
+        Arrays.sort(latencies);
+        double opsPerSecond = latencies.length / (elapsedNanos / 1_000_000_000.0);
+        double p50Millis = percentile(latencies, 0.50) / 1_000_000.0;
+        double p99Millis = percentile(latencies, 0.99) / 1_000_000.0;
+        log.info("[PERF] rotate: {} threads, {} ops, {} ops/s, p50 {} ms, p99 {} ms",
+                THREADS, offset, String.format("%.0f", opsPerSecond), String.format("%.3f", p50Millis), String.format("%.3f", p99Millis));
+
+        assertThat(opsPerSecond).as("초당 재발급 처리량").isGreaterThanOrEqualTo(MIN_OPS_PER_SECOND);
+        assertThat(p99Millis).as("재발급 p99 지연(ms)").isLessThanOrEqualTo(MAX_P99_MILLIS);
+    }
+
+    /**
+     * 한 유저의 토큰을 from -> from+1 -> ... 순서로 연속 교체하며 호출별 지연(ns)을 기록
+     */
+    private long[] rotateChain(long userId, int from, int count) {
+        long[] latencies = new long[count];
+        for (int i = 0; i < count; i++) {
+            long started = System.nanoTime();
+            Rotation rotation = store.rotate(userId, "device", String.valueOf(from + i), String.valueOf(from + i + 1));
+            latencies[i] = System.nanoTime() - started;
+            if (rotation != Rotation.ROTATED) {
+                throw new IllegalStateException("유저(ID:" + userId + ") 교체 실패: " + rotation);
+            }
+        }
+        return latencies;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+    }
+
+    private static Map<Rotation, Long> runAll(List<Callable<Rotation>> tasks) throws Exception {
+        List<Rotation> results = new ArrayList<>();
+        for (Future<Rotation> future : executor.invokeAll(tasks)) {
+            results.add(future.get());
+        }
+        return results.stream().collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    }
+}